@@ -19,6 +19,18 @@ export const clearCommCodeCache = () => {
     Object.keys(codeCache).forEach(key => delete codeCache[key]);
 };
 
+/**
+ * 다른 응답(화면 묶음 등)으로 함께 받은 공통 코드를 캐시에 채웁니다.
+ * 이후 getCommCodes / getCommCodesBulk 호출은 서버 요청 없이 캐시에서 반환됩니다.
+ * @param codesByGroup 코드 그룹명 -> 코드 목록
+ */
+export const primeCommCodes = (codesByGroup: Record<string, CommCode[]> | undefined | null) => {
+    if (!codesByGroup) return;
+    Object.entries(codesByGroup).forEach(([codeGrp, codes]) => {
+        codeCache[codeGrp] = codes || [];
+    });
+};
+
 /**
  * 공통 코드를 가져옵니다.
  * - 동일 그룹에 대한 중복 요청 방지 (deduplication)
@@ -63,3 +75,36 @@ export const getCommCodes = async (codeGrp: string): Promise<CommCode[]> => {
     pendingRequests[codeGrp] = requestPromise;
     return requestPromise;
 };
+
+/**
+ * 여러 코드 그룹의 공통 코드를 한 번의 요청으로 가져옵니다. (/api/comm-code/bulk)
+ * - 캐시에 있는 그룹은 요청하지 않고, 나머지 그룹만 모아 조회한 뒤 캐시에 저장
+ * @param codeGrps 코드 그룹명 목록
+ * @returns 코드 그룹명 -> 코드 목록
+ */
+export const getCommCodesBulk = async (codeGrps: string[]): Promise<Record<string, CommCode[]>> => {
+    const missing = codeGrps.filter(group => !codeCache[group]);
+    if (missing.length > 0) {
+        const storedUser = sessionStorage.getItem('user');
+        let user: any = {};
+        try {
+            user = storedUser ? JSON.parse(storedUser) : {};
+        } catch (e) { /* ignore */ }
+        const mUsiteNo = user?.M_USITE_NO || 1;
+
+        try {
+            const response = await axios.get<Record<string, CommCode[]>>('/api/comm-code/bulk', {
+                params: { codeGrp: missing.join(','), mUsiteNo }
+            });
+            primeCommCodes(response.data);
+        } catch (error) {
+            console.error(`Failed to fetch comm codes for ${missing.join(',')}:`, error);
+        }
+    }
+
+    const result: Record<string, CommCode[]> = {};
+    codeGrps.forEach(group => {
+        result[group] = codeCache[group] || [];
+    });
+    return result;
+};
@@ -6,6 +6,7 @@ import { GridFilters } from './DynamicGridWidget/GridFilters';
 import { GridTable } from './DynamicGridWidget/GridTable';
 import { GridPagination } from './DynamicGridWidget/GridPagination';
 import { parseConfig } from './DynamicGridWidget/utils';
+import { primeCommCodes } from '../../api/commCode';
 import type {
     StructureConfig,
     GridRow,
@@ -212,44 +213,47 @@ const DynamicGridWidget: React.FC<DynamicGridWidgetProps> = ({ structureName, on
             setState(prev => ({ ...prev, isLoading: true, error: null }));
 
             try {
-                // 1. Fetch Structure Config
+                // 1. Fetch Screen Bundle (구성 + 첫 페이지 + 필터 공통 코드를 한 번에 조회)
                 const storedUser = sessionStorage.getItem('user');
                 let user: any = {};
                 try { user = storedUser ? JSON.parse(storedUser) : {}; } catch (e) { /* ignore */ }
                 const usiteNo = user?.M_USITE_NO || 1;
+                const uid = user?.M_USER_NO || null;
 
-                const structResponse = await axios.get('/api/data/execute', {
-                    params: { serviceName: 'M_STRUCTURE', methodName: 'MVIEW', structureName, usiteNo },
+                const bundleResponse = await axios.get('/api/data/screen', {
+                    params: { structureName, usiteNo, USITE: usiteNo, UID: uid, _size: pageSize },
                     signal: abortController.signal
                 });
 
                 if (!isEffectMounted) return;
 
-                const rawConfig = structResponse.data?.structureCont;
+                const rawConfig = bundleResponse.data?.structureCont;
                 if (!rawConfig) throw new Error("화면 구성 정보를 찾을 수 없습니다.");
 
                 const parsedConfig = parseConfig(rawConfig);
+                primeCommCodes(bundleResponse.data?.commCodes);
+
+                // 2. Fetch Initial Data (서버가 구성을 해석하지 못한 경우에만 별도로 조회)
+                let firstPage = bundleResponse.data?.firstPage;
+                if (firstPage === undefined) {
+                    const dataResponse = await axios.get('/api/data/execute', {
+                        params: {
+                            serviceName: parsedConfig.service,
+                            methodName: parsedConfig.method,
+                            USITE: usiteNo,
+                            UID: uid,
+                            _page: 1,
+                            _sort: parsedConfig.order,
+                            _size: pageSize,
+                        },
+                        signal: abortController.signal
+                    });
 
-                // 2. Fetch Initial Data
-                const usite = user?.M_USITE_NO || 1;
-                const uid = user?.M_USER_NO || null;
-
-                const dataResponse = await axios.get('/api/data/execute', {
-                    params: {
-                        serviceName: parsedConfig.service,
-                        methodName: parsedConfig.method,
-                        USITE: usite,
-                        UID: uid,
-                        _page: 1,
-                        _sort: parsedConfig.order,
-                        _size: pageSize,
-                    },
-                    signal: abortController.signal
-                });
-
-                if (!isEffectMounted) return;
+                    if (!isEffectMounted) return;
+                    firstPage = dataResponse.data;
+                }
 
-                const responseData = Array.isArray(dataResponse.data) ? dataResponse.data[0] : dataResponse.data;
+                const responseData = Array.isArray(firstPage) ? firstPage[0] : firstPage;
 
                 setState({
                     config: parsedConfig,
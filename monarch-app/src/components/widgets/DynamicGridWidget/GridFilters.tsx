@@ -10,7 +10,7 @@ import PopupFilterInput from '../PopupFilterInput';
 import type { PopupFilter } from '../PopupFilterInput';
 import FilterButtons from '../FilterButtons';
 import type { ButtonConfig } from './types';
-import { getCommCodes } from '../../../api/commCode';
+import { getCommCodesBulk } from '../../../api/commCode';
 import type { CommCode } from '../../../api/commCode';
 
 interface GridFiltersProps {
@@ -76,24 +76,11 @@ export const GridFilters: React.FC<GridFiltersProps> = ({
             if (groupsToFetch.length === 0) return;
 
             try {
-                const results = await Promise.all(
-                    groupsToFetch.map(async (group) => {
-                        try {
-                            const data = await getCommCodes(group);
-                            return { group, data };
-                        } catch {
-                            return { group, data: [] };
-                        }
-                    })
-                );
+                // 여러 코드 그룹을 한 번의 요청으로 조회
+                const newOptions = await getCommCodesBulk(groupsToFetch);
 
                 if (!isMounted) return;
 
-                const newOptions: Record<string, CommCode[]> = {};
-                results.forEach(({ group, data }) => {
-                    newOptions[group] = data || [];
-                });
-
                 if (Object.keys(newOptions).length > 0) {
                     setOptions(prev => ({ ...prev, ...newOptions }));
                 }
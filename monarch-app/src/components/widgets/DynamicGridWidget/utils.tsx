@@ -7,6 +7,12 @@ import type { ColModel, GridRow, StructureConfig } from './types';
  */
 export const parseConfig = (raw: unknown): StructureConfig => {
     if (typeof raw === 'object' && raw !== null) return raw as StructureConfig;
+    try {
+        // 서버가 표준 JSON으로 정리해 보내므로 JSON.parse를 먼저 사용
+        return JSON.parse(String(raw)) as StructureConfig;
+    } catch {
+        // 함수 등 JSON으로 표현할 수 없는 값이 있는 구성은 아래에서 JavaScript로 해석
+    }
     try {
         // 콤메트와 후행 쉽표를 허용하기 위해 new Function으로 파싱
         return new Function('return ' + String(raw))() as StructureConfig;
@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.web.servlet.support.SpringBootServletInitializer;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * @SpringBootApplication
@@ -11,8 +12,10 @@ import org.springframework.boot.web.servlet.support.SpringBootServletInitializer
  * 1. @Configuration: 이 클래스가 Spring의 설정 정보를 담고 있음을 나타냅니다.
  * 2. @EnableAutoConfiguration: 클래스패스에 있는 라이브러리들을 기반으로 애플리케이션을 자동으로 구성합니다.
  * 3. @ComponentScan: 현재 패키지(`com.kydbm.monarch`) 및 하위 패키지에서 @Component, @Service 등의 컴포넌트를 찾아 Bean으로 등록합니다. 
+ * @EnableScheduling: 메타데이터 캐시 변경 감지 등 @Scheduled 작업을 활성화합니다.
  */
 @SpringBootApplication
+@EnableScheduling
 public class MonarchApplication extends SpringBootServletInitializer {
 
 	/**
@@ -0,0 +1,26 @@
+package com.kydbm.monarch.config;
+
+import com.kydbm.monarch.service.QueryCancellation;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 실행하는 Statement를 현재 요청의 `QueryCancellation`에 등록하는 JdbcTemplate.
+ * 클라이언트 연결이 끊기면 등록된 Statement를 취소하여 DB의 쿼리와 커넥션을 즉시 돌려받습니다.
+ * (쿼리 제한 시간은 트랜잭션 timeout으로 지정되며, 상위 클래스가 Statement의 queryTimeout에 반영합니다.)
+ */
+class CancellableJdbcTemplate extends JdbcTemplate {
+
+    CancellableJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+        QueryCancellation.register(stmt);
+    }
+}
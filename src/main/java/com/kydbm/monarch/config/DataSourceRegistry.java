@@ -0,0 +1,166 @@
+package com.kydbm.monarch.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * M_SERVICE.DS_NAME으로 선택하는 데이터소스 목록.
+ * 기본 데이터소스(spring.datasource.*) 외에 `monarch.datasources.<이름>.*` 로 선언한 데이터소스마다
+ * 별도의 Hikari 커넥션 풀을 만듭니다. 무거운 리포트 쿼리를 리포트/대기 DB로 보내도 OLTP 풀이 고갈되지 않습니다.
+ * <pre>
+ * monarch.datasources.report.jdbc-url=jdbc:oracle:thin:@//report-db:1521/xe
+ * monarch.datasources.report.username=...
+ * monarch.datasources.report.password=...
+ * monarch.datasources.report.maximum-pool-size=5
+ * </pre>
+ * 하위 속성은 HikariConfig의 속성명(jdbc-url, maximum-pool-size, connection-timeout 등)을 그대로 사용합니다.
+ */
+@Component
+public class DataSourceRegistry implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceRegistry.class);
+    /** DS_NAME이 비어 있을 때 사용하는 기본 데이터소스 이름 */
+    public static final String DEFAULT_NAME = "default";
+    /** 커넥션 풀 크기를 알 수 없을 때의 동시 실행 한도 (Hikari 기본 풀 크기) */
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    private final int fetchSize;
+    private final int maxConcurrency;
+    private final long acquireTimeoutMs;
+    private final MeterRegistry meterRegistry;
+    private final Target primary;
+    /** 대문자 이름 -> 데이터소스 */
+    private final Map<String, Target> targets = new LinkedHashMap<>();
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+    /** 경고를 이미 남긴 미등록 DS_NAME */
+    private final Set<String> unknownNames = ConcurrentHashMap.newKeySet();
+
+    public DataSourceRegistry(Environment environment, DataSource dataSource,
+                              PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                              @Value("${monarch.query.fetch-size:500}") int fetchSize,
+                              @Value("${monarch.db.max-concurrency:0}") int maxConcurrency,
+                              @Value("${monarch.db.acquire-timeout-ms:10000}") long acquireTimeoutMs) {
+        this.fetchSize = fetchSize;
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.meterRegistry = meterRegistry;
+        this.primary = createTarget(DEFAULT_NAME, dataSource, transactionManager);
+
+        Map<String, HikariConfig> configs = Binder.get(environment)
+                .bind("monarch.datasources", Bindable.mapOf(String.class, HikariConfig.class))
+                .orElse(Collections.emptyMap());
+        configs.forEach((name, config) -> {
+            if (config.getPoolName() == null) {
+                config.setPoolName("monarch-" + name);
+            }
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            HikariDataSource pool = new HikariDataSource(config);
+            pools.put(name, pool);
+            targets.put(name.toUpperCase(), createTarget(name, pool, new DataSourceTransactionManager(pool)));
+            log.info("Datasource registered: name={}, url={}, maximumPoolSize={}", name, config.getJdbcUrl(), config.getMaximumPoolSize());
+        });
+    }
+
+    private Target createTarget(String name, DataSource dataSource, PlatformTransactionManager transactionManager) {
+        // 클라이언트 연결이 끊기면 실행 중인 Statement를 취소할 수 있도록 모든 템플릿에서 Statement를 추적합니다.
+        JdbcTemplate jdbcTemplate = new CancellableJdbcTemplate(dataSource);
+        JdbcTemplate streamingTemplate = new CancellableJdbcTemplate(dataSource);
+        streamingTemplate.setFetchSize(fetchSize);
+        TransactionTemplate readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+        // 동시 실행 한도: 지정하지 않으면 커넥션 풀 크기와 같게 둡니다.
+        int permits = maxConcurrency > 0 ? maxConcurrency
+                : dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : DEFAULT_MAX_CONCURRENCY;
+        return new Target(name, new NamedParameterJdbcTemplate(jdbcTemplate), new NamedParameterJdbcTemplate(streamingTemplate),
+                new TransactionTemplate(transactionManager), readOnlyTransactionTemplate,
+                new DbConcurrencyLimiter(name, permits, acquireTimeoutMs, meterRegistry));
+    }
+
+    /**
+     * DS_NAME에 해당하는 데이터소스를 반환합니다.
+     * 비어 있거나 등록되지 않은 이름이면 기본 데이터소스를 사용합니다. (미등록 이름은 한 번만 경고를 남깁니다.)
+     * @param dsName M_SERVICE.DS_NAME
+     */
+    public Target resolve(String dsName) {
+        if (dsName == null || dsName.trim().isEmpty() || DEFAULT_NAME.equalsIgnoreCase(dsName.trim())) {
+            return primary;
+        }
+        Target target = targets.get(dsName.trim().toUpperCase());
+        if (target == null) {
+            if (unknownNames.add(dsName)) {
+                log.warn("Datasource '{}' is not configured (monarch.datasources.{}). Using the default datasource.", dsName, dsName);
+            }
+            return primary;
+        }
+        return target;
+    }
+
+    /** `monarch.datasources`에 등록된 이름인지 여부 */
+    public boolean isRegistered(String dsName) {
+        return dsName != null && targets.containsKey(dsName.trim().toUpperCase());
+    }
+
+    /** 애플리케이션 종료 시 추가로 만든 커넥션 풀을 닫습니다. */
+    @Override
+    public void destroy() {
+        pools.forEach((name, dataSource) -> {
+            log.info("Closing datasource: {}", name);
+            dataSource.close();
+        });
+    }
+
+    /**
+     * 데이터소스 하나에서 쿼리를 실행하는 데 필요한 템플릿 묶음.
+     * @param name 데이터소스 이름
+     * @param jdbcTemplate 일반 조회/수정용 템플릿
+     * @param streamingJdbcTemplate 결과 스트리밍용 템플릿 (fetch size 적용)
+     * @param transactionTemplate 읽기/쓰기 트랜잭션
+     * @param readOnlyTransactionTemplate 읽기 전용 트랜잭션
+     * @param limiter 동시 실행 제한
+     */
+    public record Target(String name, NamedParameterJdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate streamingJdbcTemplate,
+                         TransactionTemplate transactionTemplate, TransactionTemplate readOnlyTransactionTemplate,
+                         DbConcurrencyLimiter limiter) {
+
+        /**
+         * 동시 실행 허가를 얻은 뒤 트랜잭션 안에서 작업을 실행합니다.
+         * 제한 시간은 트랜잭션 timeout으로 지정되어, 트랜잭션 안에서 실행하는 각 Statement의 queryTimeout에 남은 시간이 반영됩니다.
+         * (호출자의 트랜잭션에 참여하는 경우에는 바깥 트랜잭션의 제한 시간을 따릅니다.)
+         * @param readOnly 읽기 전용 트랜잭션 여부
+         * @param timeoutSeconds 제한 시간(초). 0 이하이면 제한하지 않습니다.
+         * @param action 실행할 작업
+         */
+        public <T> T execute(boolean readOnly, int timeoutSeconds, TransactionCallback<T> action) {
+            TransactionTemplate template = readOnly ? readOnlyTransactionTemplate : transactionTemplate;
+            if (timeoutSeconds > 0) {
+                template = new TransactionTemplate(template.getTransactionManager(), template);
+                template.setTimeout(timeoutSeconds);
+            }
+            TransactionTemplate timed = template;
+            return limiter.execute(() -> timed.execute(action));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.kydbm.monarch.config;
+
+import com.kydbm.monarch.service.QueryRejectedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 데이터소스 하나에서 동시에 실행되는 동적 쿼리 수를 제한합니다.
+ * 가상 스레드 모드에서는 요청 스레드 수에 사실상 제한이 없으므로, 제한이 없으면 대기가 커넥션 풀로 옮겨 가
+ * 풀의 connectionTimeout까지 모든 요청이 커넥션을 기다리게 됩니다.
+ * 허가(permit)를 공정(FIFO)하게 나누어 주고, 정해진 시간 안에 얻지 못하면 `QueryRejectedException`으로 즉시 거절합니다.
+ * <p>
+ * 같은 스레드에서 중첩 호출된 경우(트랜잭션 안에서 다시 동적 쿼리 실행)에는 이미 얻은 허가를 그대로 사용합니다.
+ */
+public class DbConcurrencyLimiter {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final long acquireTimeoutMs;
+    private final Semaphore permits;
+    /** 현재 스레드가 이 제한기에서 얻은 허가의 중첩 깊이 */
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * @param name 데이터소스 이름
+     * @param maxConcurrency 최대 동시 실행 수
+     * @param acquireTimeoutMs 허가를 기다리는 최대 시간 (ms)
+     */
+    public DbConcurrencyLimiter(String name, int maxConcurrency, long acquireTimeoutMs, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = new Semaphore(maxConcurrency, true);
+        Gauge.builder("monarch.db.concurrency.active", permits, p -> maxConcurrency - p.availablePermits())
+                .description("Dynamic queries currently holding a database permit")
+                .tag("datasource", name)
+                .register(meterRegistry);
+        Gauge.builder("monarch.db.concurrency.waiting", permits, Semaphore::getQueueLength)
+                .description("Dynamic queries waiting for a database permit")
+                .tag("datasource", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 허가를 얻은 뒤 작업을 실행합니다.
+     * @throws QueryRejectedException 제한 시간 안에 허가를 얻지 못한 경우
+     */
+    public <T> T execute(Supplier<T> action) {
+        int[] held = depth.get();
+        if (held[0] > 0) {
+            return action.get();
+        }
+        acquire();
+        held[0]++;
+        try {
+            return action.get();
+        } finally {
+            held[0]--;
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new QueryRejectedException("Database is busy (" + name + ", max " + maxConcurrency
+                        + " concurrent queries). Please retry later.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryRejectedException("Interrupted while waiting for database permit (" + name + ")");
+        }
+    }
+}
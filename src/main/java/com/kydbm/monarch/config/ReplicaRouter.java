@@ -0,0 +1,140 @@
+package com.kydbm.monarch.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * READ/LIST 조회를 읽기 전용 복제본(replica) 데이터소스로 보내는 라우터.
+ * `monarch.replicas.<데이터소스>=<복제본 데이터소스>` 로 원본과 복제본을 연결합니다. (복제본도 monarch.datasources에 등록되어 있어야 합니다.)
+ * <pre>
+ * monarch.replicas.default=replica
+ * </pre>
+ * 복제 지연(lag)은 주기적으로 측정하며, 허용치(`monarch.replica.max-lag-seconds`)를 넘거나 측정에 실패한 복제본은
+ * 다시 따라잡을 때까지 사용하지 않고 원본으로 보냅니다. INSERT/UPDATE/DELETE는 항상 원본에서 실행됩니다.
+ * <p>
+ * 라우팅 결과는 `monarch.datasource.routing`(route=replica|primary, reason=ok|pending|lagging|unavailable|transaction) 지표로,
+ * 복제 지연은 `monarch.datasource.replica.lag` 게이지(초)로 노출됩니다.
+ */
+@Component
+public class ReplicaRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRouter.class);
+    /** 복제본 상태 (라우팅 지표의 reason 태그로도 사용) */
+    private static final String STATE_PENDING = "pending";
+    private static final String STATE_OK = "ok";
+    private static final String STATE_LAGGING = "lagging";
+    private static final String STATE_UNAVAILABLE = "unavailable";
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final MeterRegistry meterRegistry;
+    private final double maxLagSeconds;
+    private final String lagQuery;
+    /** 대문자 원본 이름 -> 복제본 상태 */
+    private final Map<String, Replica> replicas = new LinkedHashMap<>();
+
+    public ReplicaRouter(DataSourceRegistry dataSourceRegistry, MeterRegistry meterRegistry, Environment environment,
+                         @Value("${monarch.replica.max-lag-seconds:30}") double maxLagSeconds,
+                         @Value("${monarch.replica.lag-query:SELECT (SYSDATE - CAST(SCN_TO_TIMESTAMP(CURRENT_SCN) AS DATE)) * 86400 FROM V$DATABASE}") String lagQuery) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.meterRegistry = meterRegistry;
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagQuery = lagQuery;
+
+        Map<String, String> mapping = Binder.get(environment)
+                .bind("monarch.replicas", Bindable.mapOf(String.class, String.class))
+                .orElse(Collections.emptyMap());
+        mapping.forEach((primaryName, replicaName) -> {
+            if (!dataSourceRegistry.isRegistered(replicaName)) {
+                throw new IllegalArgumentException("Replica datasource is not configured: monarch.datasources." + replicaName);
+            }
+            Replica replica = new Replica(dataSourceRegistry.resolve(replicaName));
+            replicas.put(primaryName.toUpperCase(), replica);
+            Gauge.builder("monarch.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Last measured replication lag in seconds (NaN if unavailable)")
+                    .tag("datasource", primaryName)
+                    .tag("replica", replicaName)
+                    .register(meterRegistry);
+            log.info("Read replica registered: {} -> {} (max lag {}s)", primaryName, replicaName, maxLagSeconds);
+        });
+    }
+
+    /**
+     * 조회(READ/LIST)를 실행할 데이터소스를 선택합니다.
+     * 복제본이 있고 지연이 허용치 이내이면 복제본을, 그렇지 않으면 원본을 반환합니다.
+     * 호출자의 트랜잭션 안에서는 방금 변경한 내용이 보여야 하므로 항상 원본을 사용합니다.
+     * @param dsName M_SERVICE.DS_NAME
+     */
+    public DataSourceRegistry.Target routeRead(String dsName) {
+        DataSourceRegistry.Target primary = dataSourceRegistry.resolve(dsName);
+        Replica replica = replicas.get(primary.name().toUpperCase());
+        if (replica == null) {
+            return primary;
+        }
+        String state = replica.state;
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            state = "transaction";
+        } else if (STATE_OK.equals(state)) {
+            count(primary, "replica", state);
+            return replica.target;
+        }
+        count(primary, "primary", state);
+        return primary;
+    }
+
+    /**
+     * 복제본의 지연을 측정합니다. 측정에 실패하면 복구될 때까지 복제본을 사용하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${monarch.replica.lag-check-interval-ms:10000}")
+    public void checkLag() {
+        replicas.forEach((primaryName, replica) -> {
+            String previous = replica.state;
+            try {
+                Number lag = replica.target.jdbcTemplate().getJdbcTemplate().queryForObject(lagQuery, Number.class);
+                replica.lagSeconds = lag == null ? Double.NaN : lag.doubleValue();
+                replica.state = lag == null ? STATE_UNAVAILABLE : replica.lagSeconds <= maxLagSeconds ? STATE_OK : STATE_LAGGING;
+            } catch (Exception e) {
+                replica.lagSeconds = Double.NaN;
+                replica.state = STATE_UNAVAILABLE;
+                log.warn("Failed to measure replication lag of {}: {}", replica.target.name(), e.getMessage());
+            }
+            if (!previous.equals(replica.state)) {
+                log.info("Replica {} state changed: {} -> {} (lag {}s)", replica.target.name(), previous, replica.state, replica.lagSeconds);
+            }
+        });
+    }
+
+    private void count(DataSourceRegistry.Target primary, String route, String reason) {
+        Counter.builder("monarch.datasource.routing")
+                .description("Routing decisions for READ/LIST executions on datasources with a replica")
+                .tag("datasource", primary.name())
+                .tag("route", route)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /** 복제본 하나의 상태. 최초 측정 전(pending)에는 사용하지 않습니다. */
+    private static final class Replica {
+        private final DataSourceRegistry.Target target;
+        private volatile String state = STATE_PENDING;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(DataSourceRegistry.Target target) {
+            this.target = target;
+        }
+    }
+}
@@ -38,8 +38,13 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // "/api/login" 등 특정 경로는 인증 없이 누구나 접근할 수 있도록 허용합니다.
                         .requestMatchers("/api/login", "/api/logout", "/api/hello", "/").permitAll()
+                        // 캐시 무효화, SQL 텍스트 통계 등 관리 기능은 관리자(monarch.security.admin-users)만 사용할 수 있습니다.
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         // 그 외 "/api/**"로 시작하는 모든 경로는 반드시 인증(로그인)된 사용자만 접근 가능하도록 설정합니다.
                         .requestMatchers("/api/**").authenticated()
+                        // Actuator는 상태 확인(health)만 공개하고, 지표(metrics, prometheus)는 관리자만 조회할 수 있습니다.
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 위에서 지정하지 않은 나머지 모든 요청(예: React 정적 파일)은 허용합니다.
                         .anyRequest().permitAll()
                 )
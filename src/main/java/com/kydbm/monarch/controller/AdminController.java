@@ -0,0 +1,182 @@
+package com.kydbm.monarch.controller;
+
+import com.kydbm.monarch.domain.AuthUser;
+import com.kydbm.monarch.mapper.MServiceMapper;
+import com.kydbm.monarch.service.CommCodeDictionary;
+import com.kydbm.monarch.service.ParamSchema;
+import com.kydbm.monarch.service.QueryResultCache;
+import com.kydbm.monarch.service.ServiceMetadataCache;
+import com.kydbm.monarch.service.SlowQueryLog;
+import com.kydbm.monarch.service.SqlTemplate;
+import com.kydbm.monarch.service.SqlTextStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 화면(ServiceAdminPage, StructureAdminPage 등)에서 사용하는 운영용 API 컨트롤러.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+
+    private final ServiceMetadataCache serviceMetadataCache;
+    private final SqlTextStats sqlTextStats;
+    private final MServiceMapper mServiceMapper;
+    private final QueryResultCache queryResultCache;
+    private final CommCodeDictionary commCodeDictionary;
+    private final SlowQueryLog slowQueryLog;
+
+    public AdminController(ServiceMetadataCache serviceMetadataCache, SqlTextStats sqlTextStats, MServiceMapper mServiceMapper,
+                           QueryResultCache queryResultCache, CommCodeDictionary commCodeDictionary, SlowQueryLog slowQueryLog) {
+        this.serviceMetadataCache = serviceMetadataCache;
+        this.sqlTextStats = sqlTextStats;
+        this.mServiceMapper = mServiceMapper;
+        this.queryResultCache = queryResultCache;
+        this.commCodeDictionary = commCodeDictionary;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    /**
+     * 메타데이터 캐시의 현재 항목 수를 조회합니다.
+     */
+    @GetMapping("/meta-cache")
+    public Map<String, Long> getMetaCacheStatus() {
+        return serviceMetadataCache.sizes();
+    }
+
+    /**
+     * 메타데이터 캐시를 즉시 무효화합니다. 조건을 생략하면 해당 조건은 전체를 의미합니다.
+     * 서비스 조건(serviceName/methodName)과 화면 조건(structureName)이 모두 없으면 캐시 전체를 비웁니다.
+     */
+    @PostMapping("/meta-cache/evict")
+    public Map<String, Object> evictMetaCache(
+            @RequestParam(value = "usiteNo", required = false) Long usiteNo,
+            @RequestParam(value = "serviceName", required = false) String serviceName,
+            @RequestParam(value = "methodName", required = false) String methodName,
+            @RequestParam(value = "structureName", required = false) String structureName) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (serviceName == null && methodName == null && structureName == null) {
+            serviceMetadataCache.evictAll();
+            result.put("evicted", "ALL");
+        } else {
+            if (serviceName != null || methodName != null) {
+                result.put("services", serviceMetadataCache.evictServices(usiteNo, serviceName, methodName));
+            }
+            if (structureName != null) {
+                result.put("structures", serviceMetadataCache.evictStructures(usiteNo, structureName));
+            }
+        }
+        log.info("Metadata cache evicted: usiteNo={}, serviceName={}, methodName={}, structureName={}",
+                usiteNo, serviceName, methodName, structureName);
+        return result;
+    }
+
+    /**
+     * 공통 코드 사전에 적재된 회원사 수와 코드 수를 조회합니다.
+     */
+    @GetMapping("/comm-code")
+    public Map<String, Long> getCommCodeStatus() {
+        return commCodeDictionary.sizes();
+    }
+
+    /**
+     * 공통 코드 사전을 즉시 다시 적재합니다.
+     */
+    @PostMapping("/comm-code/reload")
+    public Map<String, Long> reloadCommCodes() {
+        commCodeDictionary.reloadAll();
+        return commCodeDictionary.sizes();
+    }
+
+    /**
+     * 조회 결과 캐시의 현재 항목 수와 추정 크기(바이트)를 조회합니다.
+     */
+    @GetMapping("/result-cache")
+    public Map<String, Long> getResultCacheStatus() {
+        return queryResultCache.sizes();
+    }
+
+    /**
+     * 조회 결과 캐시를 무효화합니다. 테이블명을 생략하면 캐시 전체를 비웁니다.
+     * 업무 테이블을 M_SERVICE 밖(배치, 직접 수정 등)에서 변경한 경우에 사용합니다.
+     */
+    @PostMapping("/result-cache/evict")
+    public Map<String, Object> evictResultCache(@RequestParam(value = "tableName", required = false) String tableName) {
+        if (tableName == null) {
+            queryResultCache.invalidateAll();
+        } else {
+            queryResultCache.invalidateTable(tableName);
+        }
+        log.info("Result cache evicted: tableName={}", tableName);
+        return Map.of("evicted", tableName == null ? "ALL" : tableName);
+    }
+
+    /**
+     * 서비스/메소드별로 실행된 SQL 텍스트의 종류 수를 조회합니다. (커서 재사용 확인용)
+     */
+    @GetMapping("/sql-texts")
+    public Map<String, Integer> getSqlTextStats() {
+        return sqlTextStats.snapshot();
+    }
+
+    /**
+     * 로그인한 관리자의 회원사에서 기준 시간보다 오래 걸린 최근 실행을 오래 걸린 순으로 조회합니다.
+     * 조건을 생략하면 회원사의 전체 서비스를 의미합니다. 바인딩 값은 타입과 길이만 표시됩니다.
+     */
+    @GetMapping("/slow-queries")
+    public List<SlowQueryLog.SlowQuery> getSlowQueries(
+            @AuthenticationPrincipal AuthUser user,
+            @RequestParam(value = "serviceName", required = false) String serviceName,
+            @RequestParam(value = "methodName", required = false) String methodName) {
+        return slowQueryLog.snapshot(user.getMuser().getMUsiteNo(), serviceName, methodName);
+    }
+
+    /**
+     * 쿼리에서 사용하는 파라미터 중 PARAM_SCHEMA에 타입이 선언되지 않은 파라미터가 있는 서비스 목록을 조회합니다.
+     * 타입이 없는 파라미터는 문자열로 바인딩되어 NUMBER/DATE 컬럼의 인덱스를 사용하지 못할 수 있습니다.
+     */
+    @GetMapping("/untyped-params")
+    public List<Map<String, Object>> getUntypedParams() {
+        List<Map<String, Object>> report = new ArrayList<>();
+        for (Map<String, Object> row : mServiceMapper.findAllParamSchemas()) {
+            String queryStmt = (String) row.get("QUERY_STMT");
+            if (queryStmt == null || queryStmt.trim().isEmpty()) {
+                continue;
+            }
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("usiteNo", row.get("M_USITE_NO"));
+            item.put("serviceName", row.get("SERVICE_NAME"));
+            item.put("methodName", row.get("METHOD_NAME"));
+            try {
+                ParamSchema schema = ParamSchema.parse((String) row.get("PARAM_SCHEMA"));
+                List<String> untyped = new ArrayList<>();
+                for (String name : SqlTemplate.compile(queryStmt).getParamNames()) {
+                    if (!schema.isTyped(name) && !name.toLowerCase().contains("password")) {
+                        untyped.add(name);
+                    }
+                }
+                if (untyped.isEmpty()) {
+                    continue;
+                }
+                item.put("untypedParams", untyped);
+            } catch (IllegalArgumentException e) {
+                item.put("error", e.getMessage());
+            }
+            report.add(item);
+        }
+        return report;
+    }
+}
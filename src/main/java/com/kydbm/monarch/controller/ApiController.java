@@ -2,21 +2,48 @@ package com.kydbm.monarch.controller;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.kydbm.monarch.domain.AuthUser;
 import com.kydbm.monarch.mapper.MServiceMapper;
 import com.kydbm.monarch.service.DynamicGridStructure;
 import com.kydbm.monarch.service.DynamicQueryService;
+import com.kydbm.monarch.service.ParallelQueryExecutor;
+import com.kydbm.monarch.service.QueryCancellation;
+import com.kydbm.monarch.service.QueryMetrics;
+import com.kydbm.monarch.service.ScreenBundleService;
+import com.kydbm.monarch.service.StructureDefinition;
 
 import java.util.Map;
 import com.kydbm.monarch.mapper.UserMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * 프론트엔드의 모든 API 요청을 처리하는 메인 컨트롤러. 
@@ -27,6 +54,8 @@ import java.util.List;
 public class ApiController {
 
     private static final Logger log = LoggerFactory.getLogger(ApiController.class);
+    /** 다중 쿼리 요청에서 실패한 항목에 담는 오류 메시지 (잘못된 요청이 아닌 경우) */
+    private static final String BATCH_ENTRY_ERROR = "Query execution failed.";
 
     @GetMapping("/hello")
     public Map<String, String> hello() {
@@ -37,6 +66,11 @@ public class ApiController {
     private final DynamicGridStructure dynamicGridStructure;
     private final UserMapper userMapper;
     private final MServiceMapper mServiceMapper;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final QueryMetrics queryMetrics;
+    private final ScreenBundleService screenBundleService;
+    /** 다중 쿼리 요청 한 번에 허용하는 최대 항목 수 */
+    private final int maxBatchEntries;
 
     /**
      * 생성자 주입 방식. Spring이 필요한 서비스와 매퍼의 구현체를 자동으로 주입합니다. 
@@ -44,13 +78,22 @@ public class ApiController {
      * @param dynamicGridStructure 그리드 구조 정보 조회 서비스 
      * @param userMapper 사용자 정보 관련 매퍼 
      * @param mServiceMapper 서비스(쿼리) 정보 관련 매퍼 
+     * @param parallelQueryExecutor 다중 쿼리 요청의 병렬 실행기
+     * @param queryMetrics 동적 쿼리 실행 지표
+     * @param screenBundleService 화면 묶음(구성 + 첫 페이지 + 공통 코드) 조회 서비스
      */
     public ApiController(DynamicQueryService dynamicQueryService, DynamicGridStructure dynamicGridStructure,
-                         UserMapper userMapper, MServiceMapper mServiceMapper) {
+                         UserMapper userMapper, MServiceMapper mServiceMapper, ParallelQueryExecutor parallelQueryExecutor,
+                         QueryMetrics queryMetrics, ScreenBundleService screenBundleService,
+                         @Value("${monarch.batch.max-entries:50}") int maxBatchEntries) {
         this.dynamicQueryService = dynamicQueryService;
         this.userMapper = userMapper;
         this.dynamicGridStructure = dynamicGridStructure;
         this.mServiceMapper = mServiceMapper;
+        this.parallelQueryExecutor = parallelQueryExecutor;
+        this.queryMetrics = queryMetrics;
+        this.screenBundleService = screenBundleService;
+        this.maxBatchEntries = maxBatchEntries;
     }
 
     /** 
@@ -89,9 +132,151 @@ public class ApiController {
 
     /** 
      * 프론트엔드의 모든 동적 데이터 조회 요청을 처리하는 핵심 엔드포인트. 
+     * 클라이언트가 응답을 기다리지 않고 연결을 끊으면 DB에서 실행 중인 쿼리를 취소합니다.
+     * (화면 구성 정보(serviceName=M_STRUCTURE) 요청은 `executeStructureQuery`가 처리합니다.)
      */
     @GetMapping("/data/execute")
-    public ResponseEntity<?> executeServiceQuery(@RequestParam Map<String, String> allRequestParams) {
+    public WebAsyncTask<ResponseEntity<byte[]>> executeServiceQuery(@RequestParam Map<String, String> allRequestParams) {
+        return cancellable(() -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(handleJsonRequest(allRequestParams)));
+    }
+
+    /**
+     * `/data/execute`의 화면 구성 정보(M_STRUCTURE) 조회. 미리 직렬화된 캐시의 바이트를 그대로 보내므로,
+     * DB 조회나 정리 작업이 없어 비동기로 넘기지 않고 요청 스레드에서 바로 응답합니다.
+     * ETag로 응답하며, 클라이언트가 같은 ETag를 보내면(If-None-Match) 본문 없이 304로 응답합니다.
+     * Cache-Control: no-cache로 응답하여 클라이언트가 매번 ETag로 변경 여부를 확인하도록 합니다.
+     */
+    @GetMapping(value = "/data/execute", params = "serviceName=M_STRUCTURE")
+    public ResponseEntity<byte[]> executeStructureQuery(@RequestParam Map<String, String> allRequestParams,
+                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long mUsiteNo = Long.parseLong(allRequestParams.getOrDefault("usiteNo", "1"));
+        StructureDefinition structure = dynamicGridStructure.getStructure(allRequestParams.get("structureName"), mUsiteNo);
+        if (structure == null) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                    .body("{\"structureCont\":null}".getBytes(StandardCharsets.UTF_8));
+        }
+        if (structure.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(structure.getETag()).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(structure.getETag()).cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON).body(structure.getBody());
+    }
+
+    /**
+     * 하나의 화면(대시보드)에 필요한 여러 조회를 한 번의 요청으로 처리합니다.
+     * 요청 본문: [{"id": ..., "serviceName": ..., "methodName": ..., "usiteNo": 1, "params": {...}}, ...]
+     * 각 항목은 `/data/execute`와 같은 방식(M_STRUCTURE 조회 포함)으로 병렬 실행되며, 결과는 요청 순서대로 반환됩니다.
+     * 병렬 실행에서는 쓰기의 순서를 보장할 수 없으므로 READ/LIST 서비스만 실행하고, 쓰기 서비스 항목은 오류로 응답합니다.
+     * 항목별 오류는 해당 항목의 status=ERROR로만 표시되고 나머지 항목에는 영향을 주지 않습니다.
+     */
+    @PostMapping("/data/batch")
+    public WebAsyncTask<List<Map<String, Object>>> executeBatchQueries(@RequestBody List<Map<String, Object>> entries) {
+        if (entries.size() > maxBatchEntries) {
+            throw new IllegalArgumentException("Too many batch entries: " + entries.size() + " (max " + maxBatchEntries + ")");
+        }
+        return cancellable(() -> {
+            List<CompletableFuture<Map<String, Object>>> futures = new ArrayList<>(entries.size());
+            for (Map<String, Object> entry : entries) {
+                futures.add(parallelQueryExecutor.submit(() -> executeBatchEntry(entry)));
+            }
+            List<Map<String, Object>> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<Map<String, Object>> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        });
+    }
+
+    /**
+     * 동적 그리드 화면을 여는 데 필요한 화면 구성, 첫 페이지 조회 결과, 필터의 공통 코드를 한 번에 반환합니다.
+     * 파라미터: structureName, usiteNo, 그 외 값(_size, _sort, 필터 초기값, USITE/UID 등)은 첫 페이지 조회에 그대로 전달됩니다.
+     * 응답: {"structureCont": ..., "firstPage": [...], "commCodes": {"코드그룹": [...]}, "pageSize": 10}
+     */
+    @GetMapping("/data/screen")
+    public WebAsyncTask<Map<String, Object>> getScreenBundle(@RequestParam Map<String, String> allRequestParams) {
+        String structureName = allRequestParams.get("structureName");
+        if (structureName == null || structureName.isBlank()) {
+            throw new IllegalArgumentException("structureName is required.");
+        }
+        Long mUsiteNo = Long.parseLong(allRequestParams.getOrDefault("usiteNo", "1"));
+        return cancellable(() -> screenBundleService.getBundle(structureName, mUsiteNo, allRequestParams));
+    }
+
+    /**
+     * 작업을 비동기 요청으로 실행합니다. 요청이 끝나기 전에 클라이언트 연결이 끊기거나 시간이 초과되면
+     * (서블릿 컨테이너가 비동기 요청을 종료하면) 작업이 실행 중인 쿼리를 취소합니다.
+     * 시간 초과(spring.mvc.async.request-timeout)와 오류는 완료 콜백을 기다리지 않고 바로 취소하며,
+     * 응답은 Spring MVC의 기본 처리(RESULT_NONE)를 따릅니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> WebAsyncTask<T> cancellable(Supplier<T> action) {
+        QueryCancellation cancellation = new QueryCancellation();
+        WebAsyncTask<T> task = new WebAsyncTask<>(() -> cancellation.run(action));
+        Callable<T> cancel = () -> {
+            cancellation.cancel();
+            return (T) CallableProcessingInterceptor.RESULT_NONE;
+        };
+        task.onTimeout(cancel);
+        task.onError(cancel);
+        // 정상 완료 후에는 실행 중인 쿼리가 없으므로 아무 일도 일어나지 않습니다.
+        task.onCompletion(cancellation::cancel);
+        return task;
+    }
+
+    /** 다중 쿼리 요청의 항목 하나를 실행합니다. 오류는 예외 대신 항목 결과에 담습니다. */
+    private Map<String, Object> executeBatchEntry(Map<String, Object> entry) {
+        Map<String, String> requestParams = new HashMap<>();
+        if (entry.get("params") instanceof Map<?, ?> params) {
+            params.forEach((key, value) -> {
+                if (value != null) {
+                    requestParams.put(String.valueOf(key), String.valueOf(value));
+                }
+            });
+        }
+        for (String key : List.of("serviceName", "methodName", "usiteNo")) {
+            if (entry.get(key) != null) {
+                requestParams.put(key, String.valueOf(entry.get(key)));
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (entry.containsKey("id")) {
+            result.put("id", entry.get("id"));
+        }
+        result.put("serviceName", requestParams.get("serviceName"));
+        result.put("methodName", requestParams.get("methodName"));
+        try {
+            result.put("data", handleDataRequest(requestParams, true));
+            result.put("status", "OK");
+        } catch (Exception e) {
+            log.warn("Batch entry failed: serviceName={}, methodName={}", requestParams.get("serviceName"), requestParams.get("methodName"), e);
+            result.put("status", "ERROR");
+            // 잘못된 요청(서비스 없음, 파라미터 형식 오류 등)만 원인을 알려주고, DB 오류의 SQL/ORA 메시지는 로그에만 남깁니다.
+            result.put("error", e instanceof IllegalArgumentException ? e.getMessage() : BATCH_ENTRY_ERROR);
+        }
+        return result;
+    }
+
+    /**
+     * `/data/execute` 요청 하나를 처리하여 JSON 응답 본문을 반환합니다.
+     * 직렬화 시간과 응답 크기를 서비스별로 기록하기 위해 직접 JSON으로 변환합니다. (등록된 서비스만 이름으로 구분)
+     */
+    private byte[] handleJsonRequest(Map<String, String> allRequestParams) {
+        String serviceName = allRequestParams.get("serviceName");
+        if ("M_SERVICE_ADMIN".equals(serviceName)) {
+            // M_SERVICE에 등록된 서비스가 아니므로 서비스 없이(unknown) 기록합니다.
+            return queryMetrics.serialize(null, handleDataRequest(allRequestParams, false));
+        }
+        Long mUsiteNo = Long.parseLong(allRequestParams.getOrDefault("usiteNo", "1"));
+        return dynamicQueryService.executeDynamicQueryAsJson(serviceName, allRequestParams.get("methodName"), mUsiteNo,
+                toQueryParams(allRequestParams, mUsiteNo));
+    }
+
+    /**
+     * `/data/execute` 요청 하나를 처리하여 응답 본문을 반환합니다.
+     * @param readOnly true이면 READ/LIST 서비스만 실행합니다. (다중 쿼리 요청)
+     */
+    private Object handleDataRequest(Map<String, String> allRequestParams, boolean readOnly) {
         String serviceName = allRequestParams.get("serviceName");
         String methodName = allRequestParams.get("methodName");
         Long mUsiteNo = Long.parseLong(allRequestParams.getOrDefault("usiteNo", "1"));
@@ -100,20 +285,8 @@ public class ApiController {
             // --- 1. 그리드 구성 정보 조회 요청 처리 ---
             String structureName = allRequestParams.get("structureName");
 
-            String structureContString = dynamicGridStructure.getStructureByName(structureName, mUsiteNo);
-
-            if (structureContString != null && !structureContString.trim().isEmpty()) {
-                // 1. JavaScript/JSON 주석 제거: // 형식의 주석을 제거합니다.
-                structureContString = structureContString.replaceAll("//.*?(?=,|\\}|\\])", "");
-                // 2. 중복 쉼표 제거: 연속된 쉼표를 하나로 통합합니다.
-                structureContString = structureContString.replaceAll(",\\s*,+", ",");
-                // 3. 배열 또는 객체의 마지막에 있는 불필요한 쉼표(trailing comma)를 제거합니다.
-                structureContString = structureContString.replaceAll(",(\\s*})", "$1");
-                structureContString = structureContString.replaceAll(",(\\s*])", "$1");
-                // 4. 줄바꿈, 탭 등 불필요한 공백을 제거하여 파싱 오류 가능성을 줄입니다.
-                structureContString = structureContString.replaceAll("\\s+", " ").trim();
-            }
-            return ResponseEntity.ok(Map.of("structureCont", structureContString));
+            // 구성 정보는 캐시에 불러올 때 한 번 정리됩니다. (StructureDefinition)
+            return Collections.singletonMap("structureCont", dynamicGridStructure.getStructureByName(structureName, mUsiteNo));
 
         } else if ("M_SERVICE_ADMIN".equals(serviceName)) {
             // --- 2. 서비스 정보 관리 페이지의 쿼리문 조회 요청 처리 ---
@@ -122,20 +295,90 @@ public class ApiController {
 
             Map<String, Object> serviceQuery = mServiceMapper.findServiceQuery(mUsiteNo, searchServiceName, searchMethodName);
             // 결과를 List 형태로 감싸서 다른 API 응답 형식과 일관성을 맞춥니다.
-            return ResponseEntity.ok(serviceQuery != null ? List.of(serviceQuery) : List.of());
+            return serviceQuery != null ? List.of(serviceQuery) : List.of();
 
         } else {
             // --- 3. 그 외 모든 일반적인 동적 그리드 데이터 조회 요청 처리 ---
-            Map<String, Object> queryParams = new HashMap<>(allRequestParams);
-            queryParams.remove("serviceName");
-            queryParams.remove("methodName");
-            queryParams.put("USITE", mUsiteNo);
+            Map<String, Object> queryParams = toQueryParams(allRequestParams, mUsiteNo);
 
-            List<Map<String, Object>> result = dynamicQueryService.executeDynamicQuery(serviceName, methodName, mUsiteNo, queryParams);
-            return ResponseEntity.ok(result);
+            return readOnly ? dynamicQueryService.executeReadQuery(serviceName, methodName, mUsiteNo, queryParams)
+                    : dynamicQueryService.executeDynamicQuery(serviceName, methodName, mUsiteNo, queryParams);
         }
     }
 
+    /**
+     * READ/LIST 서비스의 조회 결과를 스트리밍으로 반환합니다. 파라미터와 응답 형식은 `/data/execute`와 같습니다.
+     * 결과를 메모리에 모으지 않고 DB에서 읽는 즉시 응답으로 내보내므로, 대용량 조회(엑셀 다운로드 등)에 사용합니다.
+     * 응답을 쓰는 동안 클라이언트 연결이 끊기거나 시간이 초과되면 실행 중인 쿼리를 취소합니다.
+     */
+    @GetMapping("/data/stream")
+    public ResponseEntity<StreamingResponseBody> streamServiceQuery(@RequestParam Map<String, String> allRequestParams,
+                                                                    NativeWebRequest webRequest) {
+        String serviceName = allRequestParams.get("serviceName");
+        String methodName = allRequestParams.get("methodName");
+        Long mUsiteNo = Long.parseLong(allRequestParams.getOrDefault("usiteNo", "1"));
+        Map<String, Object> queryParams = toQueryParams(allRequestParams, mUsiteNo);
+
+        // StreamingResponseBody는 Spring MVC가 직접 비동기로 실행하므로, 비동기 처리의 콜백에 취소 범위를 연결합니다.
+        QueryCancellation cancellation = new QueryCancellation();
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(
+                QueryCancellationInterceptor.class.getName(), new QueryCancellationInterceptor(cancellation));
+        StreamingResponseBody body = out -> {
+            try {
+                cancellation.run(() -> {
+                    try {
+                        dynamicQueryService.streamDynamicQuery(serviceName, methodName, mUsiteNo, queryParams, out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return null;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * 하나의 쓰기(INSERT/UPDATE/DELETE) 서비스를 여러 행에 대해 일괄 실행합니다. (그리드 일괄 저장)
+     * 요청 본문: {"serviceName": ..., "methodName": ..., "usiteNo": 1, "rows": [{파라미터}, ...]}
+     * 전체가 하나의 트랜잭션으로 처리되며, 응답에는 행별 처리 건수(affectedRows)가 요청 순서대로 담깁니다.
+     * 처리 중 클라이언트 연결이 끊기거나 시간이 초과되면 실행 중인 쿼리를 취소하고 전체를 롤백합니다.
+     */
+    @PostMapping("/data/bulk")
+    public WebAsyncTask<ResponseEntity<List<Map<String, Object>>>> executeBulk(@RequestBody Map<String, Object> request) {
+        String serviceName = (String) request.get("serviceName");
+        String methodName = (String) request.get("methodName");
+        Long mUsiteNo = request.get("usiteNo") == null ? 1L : Long.parseLong(request.get("usiteNo").toString());
+        Object rows = request.get("rows");
+        if (!(rows instanceof List)) {
+            throw new IllegalArgumentException("rows must be an array of parameter objects.");
+        }
+
+        List<Map<String, Object>> paramRows = new ArrayList<>();
+        for (Object row : (List<?>) rows) {
+            if (!(row instanceof Map)) {
+                throw new IllegalArgumentException("rows must be an array of parameter objects.");
+            }
+            Map<String, Object> params = new HashMap<>();
+            ((Map<?, ?>) row).forEach((key, value) -> params.put(String.valueOf(key), value));
+            params.put("USITE", mUsiteNo);
+            paramRows.add(params);
+        }
+
+        return cancellable(() -> ResponseEntity.ok(dynamicQueryService.executeBatch(serviceName, methodName, mUsiteNo, paramRows)));
+    }
+
+    /** 요청 파라미터에서 서비스 식별용 값을 제외하고, 회원사 번호(USITE)를 추가하여 쿼리 파라미터를 만듭니다. */
+    private static Map<String, Object> toQueryParams(Map<String, String> allRequestParams, Long mUsiteNo) {
+        Map<String, Object> queryParams = new HashMap<>(allRequestParams);
+        queryParams.remove("serviceName");
+        queryParams.remove("methodName");
+        queryParams.put("USITE", mUsiteNo);
+        return queryParams;
+    }
+
     /** 
      * 사용자 코드(ID)로 상세 정보를 조회합니다. (MyBatis 직접 호출 테스트용) 
      */
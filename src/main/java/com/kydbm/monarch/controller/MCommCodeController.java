@@ -1,6 +1,6 @@
 package com.kydbm.monarch.controller;
 
-import com.kydbm.monarch.domain.MCommCode;
+import com.kydbm.monarch.domain.CommCodeItem;
 import com.kydbm.monarch.service.MCommCodeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,19 +8,40 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/comm-code")
 @RequiredArgsConstructor
 public class MCommCodeController {
 
+    /** 일괄 조회 한 번에 허용하는 최대 코드 그룹 수 */
+    private static final int MAX_BULK_GROUPS = 100;
+
     private final MCommCodeService mCommCodeService;
 
     @GetMapping
-    public List<MCommCode> getCommCodes(
+    public List<CommCodeItem> getCommCodes(
             @RequestParam("codeGrp") String codeGrp,
             @RequestParam("mUsiteNo") Long mUsiteNo) {
         return mCommCodeService.getCommCodes(codeGrp, mUsiteNo);
     }
+
+    /**
+     * 여러 코드 그룹의 공통 코드를 한 번에 조회합니다.
+     * 예: /api/comm-code/bulk?mUsiteNo=1&codeGrp=A,B 또는 ?codeGrp=A&codeGrp=B
+     * @return 코드 그룹 -> 코드 목록 (요청 순서, 없는 그룹은 빈 목록)
+     */
+    @GetMapping("/bulk")
+    public Map<String, List<CommCodeItem>> getCommCodesBulk(
+            @RequestParam("codeGrp") List<String> codeGrps,
+            @RequestParam("mUsiteNo") Long mUsiteNo) {
+        LinkedHashSet<String> distinct = new LinkedHashSet<>(codeGrps);
+        if (distinct.size() > MAX_BULK_GROUPS) {
+            throw new IllegalArgumentException("Too many code groups: " + distinct.size() + " (max " + MAX_BULK_GROUPS + ")");
+        }
+        return mCommCodeService.getCommCodes(distinct, mUsiteNo);
+    }
 }
@@ -0,0 +1,39 @@
+package com.kydbm.monarch.controller;
+
+import com.kydbm.monarch.service.QueryCancellation;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 비동기 요청이 시간 초과, 오류(클라이언트 연결 종료 포함), 완료로 끝날 때 요청의 쿼리를 취소하는 인터셉터.
+ * `WebAsyncTask`를 반환하지 않는 비동기 응답(`StreamingResponseBody`)에 취소 범위를 연결할 때 사용합니다.
+ * 시간 초과/오류 시에는 `RESULT_NONE`을 반환하여 Spring MVC의 기본 처리(503 응답 등)는 그대로 진행됩니다.
+ */
+final class QueryCancellationInterceptor implements CallableProcessingInterceptor {
+
+    private final QueryCancellation cancellation;
+
+    QueryCancellationInterceptor(QueryCancellation cancellation) {
+        this.cancellation = cancellation;
+    }
+
+    @Override
+    public <T> Object handleTimeout(NativeWebRequest request, Callable<T> task) {
+        cancellation.cancel();
+        return RESULT_NONE;
+    }
+
+    @Override
+    public <T> Object handleError(NativeWebRequest request, Callable<T> task, Throwable t) {
+        cancellation.cancel();
+        return RESULT_NONE;
+    }
+
+    @Override
+    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        // 정상 완료 후에는 실행 중인 쿼리가 없으므로 아무 일도 일어나지 않습니다.
+        cancellation.cancel();
+    }
+}
@@ -5,7 +5,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 
 /**
  * Spring Security가 사용자를 인증할 때 사용하는 UserDetails의 구현체입니다.
@@ -14,9 +14,16 @@ import java.util.Collections;
 public class AuthUser implements UserDetails {
 
     private final MUser muser;
+    /** 관리자 여부 (monarch.security.admin-users에 등록된 사용자) */
+    private final boolean admin;
 
     public AuthUser(MUser muser) {
+        this(muser, false);
+    }
+
+    public AuthUser(MUser muser, boolean admin) {
         this.muser = muser;
+        this.admin = admin;
     }
 
     /**
@@ -30,9 +37,12 @@ public class AuthUser implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // 사용자 권한을 설정합니다. 여기서는 간단히 "ROLE_USER"를 부여합니다.
-        // 필요 시 MUser 객체의 권한 정보를 바탕으로 동적으로 설정할 수 있습니다.
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+        // 사용자 권한을 설정합니다. 모든 사용자에게 "ROLE_USER"를 부여하고,
+        // 관리자로 등록된 사용자에게는 관리 기능(/api/admin/**, /actuator/**)을 위한 "ROLE_ADMIN"을 추가로 부여합니다.
+        if (admin) {
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
+        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
     }
 
     @Override
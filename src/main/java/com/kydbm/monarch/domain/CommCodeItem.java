@@ -0,0 +1,24 @@
+package com.kydbm.monarch.domain;
+
+/**
+ * 공통 코드(M_COMM_CODE) 한 건의 읽기 전용 조회 결과. (JPA 엔티티가 아닌 프로젝션)
+ * 드롭다운 등 화면 표시에 필요한 컬럼만 담으며, 영속성 컨텍스트에 등록되지 않습니다.
+ * 등록/수정 정보와 사용 여부는 포함하지 않습니다. (사용 중인 코드만 조회)
+ *
+ * @param mCommCodeNo 공통코드 번호
+ * @param codeGrp 코드 그룹 ID
+ * @param codeVal 코드 값
+ * @param codeName 코드 명
+ * @param codeName2 코드 명2
+ * @param codeName3 코드 명3
+ * @param codeDtl 코드 상세 설명
+ * @param style 표시 스타일
+ * @param sortNo 정렬 순서
+ * @param langCode 언어 코드
+ * @param upperCodeGrp 상위 코드 그룹 ID
+ * @param mUsiteNo 회원사 번호
+ */
+public record CommCodeItem(Long mCommCodeNo, String codeGrp, String codeVal, String codeName, String codeName2,
+                           String codeName3, String codeDtl, String style, Integer sortNo, String langCode,
+                           String upperCodeGrp, Long mUsiteNo) {
+}
@@ -61,6 +61,33 @@ public class MService {
     @Column(name = "DS_NAME", length = 100)
     private String dsName;
 
+    /**
+     * 키셋 페이징 정렬 키. LIST 서비스에서 OFFSET 대신 seek 조건으로 페이징할 때 사용할 유일한 정렬 키입니다.
+     * 예: "REG_DATE DESC, M_CUST_NO DESC". 비어 있으면 키셋 페이징을 지원하지 않습니다.
+     */
+    @Column(name = "KEYSET_KEY", length = 200)
+    private String keysetKey;
+
+    /**
+     * 파라미터 스키마. 요청 파라미터를 바인딩 전에 변환할 JDBC 타입을 선언합니다.
+     * 형식: "이름:타입[:포맷]; ..." (타입: VARCHAR, NUMBER, INTEGER, DATE, TIMESTAMP)
+     * 예: "M_USER_NO:NUMBER; REG_DATE_FROM:DATE:yyyy-MM-dd"
+     */
+    @Column(name = "PARAM_SCHEMA", length = 2000)
+    private String paramSchema;
+
+    /** 결과 캐시 유지 시간(초). READ/LIST 서비스의 조회 결과를 캐시합니다. 비어 있거나 0이면 캐시하지 않습니다. */
+    @Column(name = "CACHE_TTL")
+    private Integer cacheTtl;
+
+    /** 결과 캐시 항목의 최대 크기(바이트). 추정 크기가 이 값을 넘는 결과는 캐시하지 않습니다. 비어 있으면 1MB입니다. */
+    @Column(name = "CACHE_MAX_BYTES")
+    private Long cacheMaxBytes;
+
+    /** 쿼리 제한 시간(초). 넘으면 DB에서 쿼리를 중단합니다. 비어 있거나 0이면 전역 기본값(monarch.query.timeout-seconds)을 사용합니다. */
+    @Column(name = "QUERY_TIMEOUT")
+    private Integer queryTimeout;
+
     /** 사용여부. 쿼리가 현재 사용 가능한 상태인지 나타냅니다 (1: 사용, 0: 미사용). */
     @JdbcTypeCode(SqlTypes.NCHAR)
     @Column(name = "USE_FLAG", length = 1)
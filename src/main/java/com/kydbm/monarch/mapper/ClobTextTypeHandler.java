@@ -0,0 +1,95 @@
+package com.kydbm.monarch.mapper;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * CLOB/NCLOB 컬럼(QUERY_STMT, STRUCTURE_CONT 등)을 문자 스트림으로 끝까지 읽어 String으로 변환하는 타입 핸들러.
+ * `TO_CHAR(...)`와 달리 4000바이트 제한이 없습니다.
+ * LOB 길이를 먼저 확인해 그 크기의 버퍼에 바로 읽어 들이므로, 버퍼 확장이나 중간 복사 없이 한 번만 String으로 복사됩니다.
+ */
+public class ClobTextTypeHandler extends BaseTypeHandler<String> {
+
+    /** 길이를 알 수 없을 때 사용하는 읽기 단위 */
+    private static final int CHUNK_SIZE = 8192;
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType) throws SQLException {
+        ps.setCharacterStream(i, new StringReader(parameter), parameter.length());
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return read(rs.getClob(columnName));
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return read(rs.getClob(columnIndex));
+    }
+
+    @Override
+    public String getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return read(cs.getClob(columnIndex));
+    }
+
+    /**
+     * CLOB을 문자 스트림으로 읽어 String으로 변환하고 LOB 자원을 해제합니다.
+     * @param clob 읽을 CLOB (null 가능)
+     * @return 전체 내용. clob이 null이면 null
+     */
+    public static String read(Clob clob) throws SQLException {
+        if (clob == null) {
+            return null;
+        }
+        try (Reader reader = clob.getCharacterStream()) {
+            long length = clob.length();
+            if (length > Integer.MAX_VALUE - 8) {
+                throw new SQLException("CLOB is too large to read into memory: " + length + " chars");
+            }
+            return length > 0 ? readFully(reader, (int) length) : readChunked(reader);
+        } catch (IOException e) {
+            throw new SQLException("Failed to read CLOB data", e);
+        } finally {
+            try {
+                clob.free();
+            } catch (SQLException ignored) {
+                // 해제를 지원하지 않는 드라이버는 커넥션 반환 시 정리됩니다.
+            }
+        }
+    }
+
+    /** 길이를 아는 경우: 정확한 크기의 버퍼에 바로 읽습니다. */
+    private static String readFully(Reader reader, int length) throws IOException {
+        char[] buffer = new char[length];
+        int offset = 0;
+        while (offset < length) {
+            int read = reader.read(buffer, offset, length - offset);
+            if (read < 0) {
+                break;
+            }
+            offset += read;
+        }
+        return new String(buffer, 0, offset);
+    }
+
+    /** 길이를 알 수 없는 경우(0으로 보고하는 드라이버 포함): 조각 단위로 읽습니다. */
+    private static String readChunked(Reader reader) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] chunk = new char[CHUNK_SIZE];
+        int read;
+        while ((read = reader.read(chunk)) >= 0) {
+            sb.append(chunk, 0, read);
+        }
+        return sb.toString();
+    }
+}
@@ -1,9 +1,13 @@
 package com.kydbm.monarch.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
 
+import java.sql.Timestamp;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -22,14 +26,51 @@ public interface MServiceMapper {
      */
     @Select("""
             SELECT M_SERVICE_NO, QUERY_NAME, SERVICE_NAME, METHOD_NAME, EXEC_TYPE,
-                   TO_CHAR(QUERY_STMT) AS QUERY_STMT, QUERY_DESC, TABLE_NAME, DS_NAME,
-                   USE_FLAG, M_USITE_NO, REG_DATE, UPD_DATE, REG_USER, UPD_USER
+                   QUERY_STMT, QUERY_DESC, TABLE_NAME, DS_NAME, KEYSET_KEY,
+                   PARAM_SCHEMA, CACHE_TTL, CACHE_MAX_BYTES, QUERY_TIMEOUT, USE_FLAG, M_USITE_NO, REG_DATE, UPD_DATE, REG_USER, UPD_USER
             FROM M_SERVICE
             WHERE SERVICE_NAME = #{serviceName} AND METHOD_NAME = #{methodName} AND M_USITE_NO = #{usiteNo}
             """)
+    @Results(id = "serviceQuery", value = {
+            // QUERY_STMT(NCLOB)는 길이 제한 없이 문자 스트림으로 읽습니다. 나머지 컬럼은 자동 매핑됩니다.
+            @Result(column = "QUERY_STMT", property = "QUERY_STMT", javaType = String.class, typeHandler = ClobTextTypeHandler.class)
+    })
     Map<String, Object> findServiceQuery(
             @Param("usiteNo") Long usiteNo,
             @Param("serviceName") String serviceName,
             @Param("methodName") String methodName
     );
+
+    /**
+     * 캐시 무효화 폴링용. 테이블 전체의 최종 수정일(MAX_UPD_DATE)과 행 수(CNT)를 조회합니다.
+     * 행 수가 바뀌면 삭제/추가가 있었던 것으로 간주합니다.
+     * @return MAX_UPD_DATE, CNT를 담은 Map 객체
+     */
+    @Select("SELECT MAX(UPD_DATE) AS MAX_UPD_DATE, COUNT(*) AS CNT FROM M_SERVICE")
+    Map<String, Object> findChangeMarker();
+
+    /**
+     * 지정한 시각 이후 수정된 서비스의 키 목록을 조회합니다.
+     * @param since 마지막으로 확인한 최종 수정일
+     * @return M_USITE_NO, SERVICE_NAME, METHOD_NAME을 담은 Map 리스트
+     */
+    @Select("""
+            SELECT M_USITE_NO, SERVICE_NAME, METHOD_NAME
+            FROM M_SERVICE
+            WHERE UPD_DATE >= #{since}
+            """)
+    List<Map<String, Object>> findKeysUpdatedSince(@Param("since") Timestamp since);
+
+    /**
+     * 파라미터 스키마 점검용. 사용 중인 모든 서비스의 쿼리문과 파라미터 스키마를 조회합니다.
+     * @return M_USITE_NO, SERVICE_NAME, METHOD_NAME, QUERY_STMT, PARAM_SCHEMA를 담은 Map 리스트
+     */
+    @Select("""
+            SELECT M_USITE_NO, SERVICE_NAME, METHOD_NAME, QUERY_STMT, PARAM_SCHEMA
+            FROM M_SERVICE
+            WHERE USE_FLAG = '1'
+            ORDER BY M_USITE_NO, SERVICE_NAME, METHOD_NAME
+            """)
+    @Results(@Result(column = "QUERY_STMT", property = "QUERY_STMT", javaType = String.class, typeHandler = ClobTextTypeHandler.class))
+    List<Map<String, Object>> findAllParamSchemas();
 }
@@ -2,8 +2,14 @@ package com.kydbm.monarch.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 화면 구성(Structure) 정보에 접근하기 위한 MyBatis 매퍼 인터페이스.
  * `M_STRUCTURE` 테이블 관련 SQL 쿼리를 정의합니다.
@@ -15,15 +21,35 @@ public interface MStructureMapper {
      * `structureName`과 `usiteNo`를 기반으로 화면 구성 내용(JSON 문자열)을 조회합니다.
      * @param structureName 조회할 화면의 고유 이름
      * @param usiteNo 회원사 번호
-     * @return 조회된 화면 구성 정보 (JSON 형식의 문자열)
+     * @return 조회된 화면 구성 정보 (JSON 형식의 문자열, 길이 제한 없음)
      */
     @Select("""
-            SELECT TO_CHAR(STRUCTURE_CONT)
+            SELECT STRUCTURE_CONT
             FROM M_STRUCTURE
             WHERE STRUCTURE_NAME = #{structureName} AND M_USITE_NO = #{usiteNo}
             """)
+    @Results(@Result(column = "STRUCTURE_CONT", javaType = String.class, typeHandler = ClobTextTypeHandler.class))
     String findByName(
             @Param("structureName") String structureName, 
             @Param("usiteNo") Long usiteNo
     );
+
+    /**
+     * 캐시 무효화 폴링용. 테이블 전체의 최종 수정일(MAX_UPD_DATE)과 행 수(CNT)를 조회합니다.
+     * @return MAX_UPD_DATE, CNT를 담은 Map 객체
+     */
+    @Select("SELECT MAX(UPD_DATE) AS MAX_UPD_DATE, COUNT(*) AS CNT FROM M_STRUCTURE")
+    Map<String, Object> findChangeMarker();
+
+    /**
+     * 지정한 시각 이후 수정된 화면 구성의 키 목록을 조회합니다.
+     * @param since 마지막으로 확인한 최종 수정일
+     * @return M_USITE_NO, STRUCTURE_NAME을 담은 Map 리스트
+     */
+    @Select("""
+            SELECT M_USITE_NO, STRUCTURE_NAME
+            FROM M_STRUCTURE
+            WHERE UPD_DATE >= #{since}
+            """)
+    List<Map<String, Object>> findKeysUpdatedSince(@Param("since") Timestamp since);
 }
@@ -1,11 +1,13 @@
 package com.kydbm.monarch.repository;
 
+import com.kydbm.monarch.domain.CommCodeItem;
 import com.kydbm.monarch.domain.MCommCode;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,18 +17,42 @@ import java.util.List;
 public interface MCommCodeRepository extends JpaRepository<MCommCode, Long> {
 
     /**
-     * 코드 그룹, 회원사 번호, 사용 여부를 기준으로 공통 코드를 조회합니다.
-     * 정렬 순서(SORT_NO)와 코드명(CODE_NAME) 순으로 정렬합니다.
+     * 공통 코드 사전 적재용. 사용 중(USE_FLAG = '1')인 전체 공통 코드를 프로젝션으로 조회합니다.
+     * 회원사, 코드 그룹, 정렬 순서(SORT_NO), 코드명(CODE_NAME) 순으로 정렬합니다.
      */
     @Query("""
-            SELECT c FROM MCommCode c
-            WHERE c.codeGrp = :codeGrp
-              AND c.mUsiteNo = :mUsiteNo
-              AND c.useFlag = :useFlag
-            ORDER BY c.sortNo ASC, c.codeName ASC
+            SELECT new com.kydbm.monarch.domain.CommCodeItem(c.mCommCodeNo, c.codeGrp, c.codeVal, c.codeName, c.codeName2,
+                   c.codeName3, c.codeDtl, c.style, c.sortNo, c.langCode, c.upperCodeGrp, c.mUsiteNo)
+            FROM MCommCode c
+            WHERE c.useFlag = '1'
+            ORDER BY c.mUsiteNo ASC, c.codeGrp ASC, c.sortNo ASC, c.codeName ASC
             """)
-    List<MCommCode> findByCodeGrpAndMUsiteNoAndUseFlag(
-            @Param("codeGrp") String codeGrp,
-            @Param("mUsiteNo") Long mUsiteNo,
-            @Param("useFlag") String useFlag);
+    List<CommCodeItem> findAllActiveItems();
+
+    /**
+     * 한 회원사의 사용 중인 공통 코드를 프로젝션으로 조회합니다. (정렬은 findAllActiveItems와 같음)
+     * @param mUsiteNo 회원사 번호
+     */
+    @Query("""
+            SELECT new com.kydbm.monarch.domain.CommCodeItem(c.mCommCodeNo, c.codeGrp, c.codeVal, c.codeName, c.codeName2,
+                   c.codeName3, c.codeDtl, c.style, c.sortNo, c.langCode, c.upperCodeGrp, c.mUsiteNo)
+            FROM MCommCode c
+            WHERE c.mUsiteNo = :mUsiteNo
+              AND c.useFlag = '1'
+            ORDER BY c.codeGrp ASC, c.sortNo ASC, c.codeName ASC
+            """)
+    List<CommCodeItem> findActiveItemsByMUsiteNo(@Param("mUsiteNo") Long mUsiteNo);
+
+    /**
+     * 변경 감지 폴링용. 테이블 전체의 최종 수정일을 조회합니다.
+     */
+    @Query("SELECT MAX(c.updDate) FROM MCommCode c")
+    LocalDateTime findMaxUpdDate();
+
+    /**
+     * 지정한 시각 이후 공통 코드가 수정된 회원사 번호 목록을 조회합니다.
+     * @param since 마지막으로 확인한 최종 수정일
+     */
+    @Query("SELECT DISTINCT c.mUsiteNo FROM MCommCode c WHERE c.updDate >= :since")
+    List<Long> findUsiteNosUpdatedSince(@Param("since") LocalDateTime since);
 }
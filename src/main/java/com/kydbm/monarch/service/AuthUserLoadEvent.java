@@ -0,0 +1,26 @@
+package com.kydbm.monarch.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 로그인 시 사용자 정보 조회(`AuthUserService.loadUserByUsername`) 한 건의 JFR 이벤트.
+ */
+@Name("com.kydbm.monarch.AuthUserLoad")
+@Label("Auth User Load")
+@Category({"Monarch", "Authentication"})
+@Description("Lookup of a user during login")
+@StackTrace(false)
+class AuthUserLoadEvent extends Event {
+
+    @Label("User Code")
+    String userCode;
+
+    @Label("Result")
+    @Description("FOUND, NOT_FOUND, LOCKED or ERROR")
+    String result;
+}
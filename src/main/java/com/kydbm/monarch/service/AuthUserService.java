@@ -6,6 +6,7 @@ import com.kydbm.monarch.mapper.UserMapper;
 import org.springframework.security.authentication.LockedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.List;
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Spring Security의 `UserDetailsService`를 구현한 클래스.
@@ -24,9 +26,13 @@ public class AuthUserService implements UserDetailsService {
     private static final Logger log = LoggerFactory.getLogger(AuthUserService.class);
 
     private final UserMapper userMapper;
+    /** 관리자 권한(ROLE_ADMIN)을 부여할 사용자 아이디(USER_CODE) 목록 */
+    private final Set<String> adminUsers;
 
-    public AuthUserService(UserMapper userMapper) {
+    public AuthUserService(UserMapper userMapper,
+                           @Value("${monarch.security.admin-users:}") Set<String> adminUsers) {
         this.userMapper = userMapper;
+        this.adminUsers = adminUsers;
     }
 
     /**
@@ -38,6 +44,31 @@ public class AuthUserService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // 로그인 처리 구간을 JFR 이벤트로 기록합니다. (녹화 중이 아니면 기록하지 않습니다.)
+        AuthUserLoadEvent event = new AuthUserLoadEvent();
+        event.begin();
+        String result = "ERROR";
+        try {
+            UserDetails user = loadUser(username);
+            result = "FOUND";
+            return user;
+        } catch (UsernameNotFoundException e) {
+            result = "NOT_FOUND";
+            throw e;
+        } catch (LockedException e) {
+            result = "LOCKED";
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.userCode = username;
+                event.result = result;
+                event.commit();
+            }
+        }
+    }
+
+    private UserDetails loadUser(String username) {
         log.info("Attempting to load user by username: {}", username);
         List<Map<String, Object>> userDetailsList = userMapper.findUserDetailsByUserCode(username);
 
@@ -76,7 +107,7 @@ public class AuthUserService implements UserDetailsService {
             muser.setLoginFailCnt(((BigDecimal) failCntObj).longValue());
         }
 
-        // MUser 객체를 AuthUser로 감싸서 반환합니다.
-        return new AuthUser(muser);
+        // MUser 객체를 AuthUser로 감싸서 반환합니다. 관리자로 등록된 사용자는 관리자 권한을 함께 가집니다.
+        return new AuthUser(muser, adminUsers.contains(muser.getUserCode()));
     }
 }
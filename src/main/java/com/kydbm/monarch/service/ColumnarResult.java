@@ -0,0 +1,117 @@
+package com.kydbm.monarch.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 조회 결과를 열 중심(columnar) 응답 형식으로 변환합니다. (`_format=columnar`)
+ * 행마다 컬럼명을 반복하는 대신 컬럼 정보를 한 번만 보내고, 각 행은 값 배열로 보냅니다.
+ * <pre>
+ * {"columns": [{"name": "CUST_NAME", "type": "string"},
+ *              {"name": "STATUS", "type": "string", "dict": ["정상", "휴면"]}],
+ *  "rows": [["홍길동", 0], ["김철수", 1], ["이영희", 0], ["박민수", 0]]}
+ * </pre>
+ * 종류가 적은 문자열 컬럼(상태, 구분 코드 등)은 사전(dict)으로 인코딩하여 값 대신 사전의 인덱스를 보냅니다.
+ * 사전은 값 종류가 행 수의 절반 이하이고 256개 이하일 때만 사용합니다. (위 예에서 CUST_NAME은 값이 모두 달라 사전을 쓰지 않습니다.)
+ * 한 컬럼에 타입이 다른 값이 섞여 있으면 type은 "mixed"이며 값은 그대로 보냅니다.
+ */
+public final class ColumnarResult {
+
+    /** 사전 인코딩을 적용할 수 있는 최대 값 종류 수 */
+    private static final int MAX_DICTIONARY_SIZE = 256;
+
+    private ColumnarResult() {
+    }
+
+    /**
+     * 행 목록을 열 중심 형식으로 변환합니다.
+     * @param rows 조회 결과 행 (행마다 컬럼 구성이 다르면 처음 나온 순서대로 모든 컬럼을 포함하고, 없는 값은 null로 보냅니다.)
+     * @return columns, rows를 담은 Map
+     */
+    public static Map<String, Object> encode(List<Map<String, Object>> rows) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (Map<String, Object> row : rows) {
+            keys.addAll(row.keySet());
+        }
+        List<String> names = new ArrayList<>(keys);
+        int columnCount = names.size();
+
+        // 1. 컬럼별 타입과 문자열 값의 종류를 수집합니다.
+        String[] types = new String[columnCount];
+        List<Map<String, Integer>> dictionaries = new ArrayList<>(columnCount);
+        for (int c = 0; c < columnCount; c++) {
+            dictionaries.add(new LinkedHashMap<>());
+        }
+        for (Map<String, Object> row : rows) {
+            for (int c = 0; c < columnCount; c++) {
+                Object value = row.get(names.get(c));
+                if (value == null) {
+                    continue;
+                }
+                if (types[c] == null) {
+                    types[c] = typeOf(value);
+                } else if (!types[c].equals(typeOf(value))) {
+                    types[c] = "mixed";
+                }
+                Map<String, Integer> dictionary = dictionaries.get(c);
+                if (dictionary != null) {
+                    if (!(value instanceof String) || (dictionary.size() >= MAX_DICTIONARY_SIZE && !dictionary.containsKey(value))) {
+                        dictionaries.set(c, null);
+                    } else {
+                        dictionary.putIfAbsent((String) value, dictionary.size());
+                    }
+                }
+            }
+        }
+
+        // 사전이 값 자체보다 작아지는 경우(값 종류가 행 수의 절반 이하)에만 사전 인코딩을 사용합니다.
+        List<Map<String, Object>> columns = new ArrayList<>(columnCount);
+        for (int c = 0; c < columnCount; c++) {
+            Map<String, Integer> dictionary = dictionaries.get(c);
+            if (dictionary != null && (dictionary.isEmpty() || dictionary.size() * 2 > rows.size())) {
+                dictionaries.set(c, null);
+                dictionary = null;
+            }
+            Map<String, Object> column = new LinkedHashMap<>();
+            column.put("name", names.get(c));
+            column.put("type", types[c] != null ? types[c] : "null");
+            if (dictionary != null) {
+                column.put("dict", new ArrayList<>(dictionary.keySet()));
+            }
+            columns.add(column);
+        }
+
+        // 2. 각 행을 값 배열로 변환합니다.
+        List<Object[]> values = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Object[] array = new Object[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                Object value = row.get(names.get(c));
+                Map<String, Integer> dictionary = dictionaries.get(c);
+                array[c] = (dictionary != null && value != null) ? dictionary.get(value) : value;
+            }
+            values.add(array);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("columns", columns);
+        result.put("rows", values);
+        return result;
+    }
+
+    private static String typeOf(Object value) {
+        if (value instanceof Number) {
+            return "number";
+        } else if (value instanceof Date || value instanceof java.time.temporal.Temporal) {
+            return "datetime";
+        } else if (value instanceof Boolean) {
+            return "boolean";
+        }
+        return "string";
+    }
+}
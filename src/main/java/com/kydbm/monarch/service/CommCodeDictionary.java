@@ -0,0 +1,188 @@
+package com.kydbm.monarch.service;
+
+import com.kydbm.monarch.domain.CommCodeItem;
+import com.kydbm.monarch.repository.MCommCodeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용 중인 공통 코드(M_COMM_CODE)를 회원사별로 메모리에 보관하는 사전.
+ * 공통 코드는 관리자 화면에서 수정될 때만 바뀌므로, 드롭다운을 그릴 때마다 DB를 조회하지 않고 사전에서 반환합니다.
+ * <p>
+ * 회원사 하나의 코드는 코드 그룹 -> 코드 목록의 불변 Map으로 보관하며, 갱신할 때는 회원사 단위로 통째로 교체합니다.
+ * (읽는 쪽은 잠금 없이 항상 완전한 스냅샷을 봅니다.)
+ * 애플리케이션 시작 시 전체를 한 번에 적재하고, 백그라운드 폴러가 UPD_DATE를 비교하여 변경된 회원사만 다시 적재합니다.
+ * 사전에는 사용 중인 코드가 있는 회원사만 보관합니다.
+ */
+@Component
+public class CommCodeDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(CommCodeDictionary.class);
+
+    private final MCommCodeRepository mCommCodeRepository;
+    private final boolean preload;
+    /** 회원사 번호 -> (코드 그룹 -> 코드 목록) */
+    private final Map<Long, Map<String, List<CommCodeItem>>> tenants = new ConcurrentHashMap<>();
+
+    /** 마지막 적재/폴링 시점의 테이블 상태 (최초 적재 전에는 null) */
+    private volatile ChangeMarker marker;
+
+    public CommCodeDictionary(MCommCodeRepository mCommCodeRepository,
+                              @Value("${monarch.comm-code.preload:true}") boolean preload) {
+        this.mCommCodeRepository = mCommCodeRepository;
+        this.preload = preload;
+    }
+
+    /** 애플리케이션 시작 시 전체 공통 코드를 적재합니다. 실패하면 회원사별로 처음 조회할 때 적재합니다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        if (!preload) {
+            return;
+        }
+        try {
+            reloadAll();
+        } catch (Exception e) {
+            log.warn("Failed to preload common codes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 코드 그룹의 공통 코드를 반환합니다. (정렬 순서, 코드명 순)
+     * @param mUsiteNo 회원사 번호
+     * @param codeGrp 코드 그룹 ID
+     * @return 불변 코드 목록 (없으면 빈 목록)
+     */
+    public List<CommCodeItem> getCodes(Long mUsiteNo, String codeGrp) {
+        return tenant(mUsiteNo).getOrDefault(codeGrp, Collections.emptyList());
+    }
+
+    /**
+     * 여러 코드 그룹의 공통 코드를 한 번에 반환합니다.
+     * @param mUsiteNo 회원사 번호
+     * @param codeGrps 코드 그룹 ID 목록
+     * @return 요청 순서대로 코드 그룹 -> 불변 코드 목록 (없는 그룹은 빈 목록)
+     */
+    public Map<String, List<CommCodeItem>> getCodes(Long mUsiteNo, Collection<String> codeGrps) {
+        Map<String, List<CommCodeItem>> codes = tenant(mUsiteNo);
+        Map<String, List<CommCodeItem>> result = new LinkedHashMap<>();
+        for (String codeGrp : codeGrps) {
+            result.put(codeGrp, codes.getOrDefault(codeGrp, Collections.emptyList()));
+        }
+        return result;
+    }
+
+    /** 현재 적재된 회원사 수와 코드 수 (관리용) */
+    public Map<String, Long> sizes() {
+        long codes = tenants.values().stream().flatMap(groups -> groups.values().stream()).mapToLong(List::size).sum();
+        return Map.of("tenants", (long) tenants.size(), "codes", codes);
+    }
+
+    private Map<String, List<CommCodeItem>> tenant(Long mUsiteNo) {
+        if (mUsiteNo == null) {
+            throw new IllegalArgumentException("mUsiteNo is required.");
+        }
+        Map<String, List<CommCodeItem>> codes = tenants.get(mUsiteNo);
+        if (codes != null) {
+            return codes;
+        }
+        // 전체 적재 이후에는 사전에 없는 회원사는 사용 중인 코드가 없는 회원사입니다. (변경은 폴러가 반영)
+        // 요청마다 다른 회원사 번호를 보내도 DB를 조회하거나 사전이 커지지 않습니다.
+        if (marker != null) {
+            return Map.of();
+        }
+        // 전체 적재 전(시작 시 적재 실패 등)에는 DB에서 읽고, 코드가 있는 회원사만 보관합니다.
+        codes = group(mCommCodeRepository.findActiveItemsByMUsiteNo(mUsiteNo));
+        if (codes.isEmpty()) {
+            return codes;
+        }
+        Map<String, List<CommCodeItem>> existing = tenants.putIfAbsent(mUsiteNo, codes);
+        return existing != null ? existing : codes;
+    }
+
+    /**
+     * 주기적으로 M_COMM_CODE의 UPD_DATE를 확인하여 변경된 회원사의 코드를 다시 적재합니다.
+     * - 최초 폴링이거나 행 수가 바뀐 경우(추가/삭제): 전체 재적재
+     * - 최종 수정일이 바뀐 경우: 이전 최종 수정일 이후 수정된 회원사만 재적재
+     * DB 오류가 발생해도 다음 주기에 다시 시도하며, 사전은 그대로 유지됩니다.
+     */
+    @Scheduled(fixedDelayString = "${monarch.comm-code.poll-interval-ms:30000}",
+            initialDelayString = "${monarch.comm-code.poll-interval-ms:30000}")
+    public void pollForChanges() {
+        try {
+            ChangeMarker previous = marker;
+            ChangeMarker current = currentMarker();
+            if (previous == null || previous.count() != current.count() || previous.maxUpdDate() == null) {
+                reloadAll();
+                if (previous != null) {
+                    log.info("M_COMM_CODE row count changed ({} -> {}). Common code dictionary reloaded.", previous.count(), current.count());
+                }
+            } else if (!Objects.equals(previous.maxUpdDate(), current.maxUpdDate())) {
+                List<Long> changed = mCommCodeRepository.findUsiteNosUpdatedSince(previous.maxUpdDate());
+                for (Long mUsiteNo : changed) {
+                    Map<String, List<CommCodeItem>> codes = group(mCommCodeRepository.findActiveItemsByMUsiteNo(mUsiteNo));
+                    // 사용 중인 코드가 모두 없어진 회원사는 제거합니다. (전체 적재와 같은 기준)
+                    if (codes.isEmpty()) {
+                        tenants.remove(mUsiteNo);
+                    } else {
+                        tenants.put(mUsiteNo, codes);
+                    }
+                }
+                marker = current;
+                log.info("M_COMM_CODE changed since {}. Reloaded common codes of tenants {}.", previous.maxUpdDate(), changed);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to poll M_COMM_CODE for changes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 공통 코드를 한 번의 조회로 다시 적재합니다. (상태를 먼저 읽어 적재 중의 변경은 다음 폴링에서 반영됩니다.)
+     * 관리자가 공통 코드를 수정한 직후 폴링 주기를 기다리지 않고 반영할 때도 사용합니다.
+     */
+    public void reloadAll() {
+        ChangeMarker current = currentMarker();
+        Map<Long, List<CommCodeItem>> byTenant = new HashMap<>();
+        for (CommCodeItem item : mCommCodeRepository.findAllActiveItems()) {
+            byTenant.computeIfAbsent(item.mUsiteNo(), key -> new ArrayList<>()).add(item);
+        }
+        byTenant.forEach((mUsiteNo, items) -> tenants.put(mUsiteNo, group(items)));
+        // 사용 중인 코드가 모두 없어진 회원사는 제거합니다.
+        tenants.keySet().retainAll(byTenant.keySet());
+        marker = current;
+        log.info("Common code dictionary loaded: tenants={}, codes={}", byTenant.size(),
+                byTenant.values().stream().mapToInt(List::size).sum());
+    }
+
+    private ChangeMarker currentMarker() {
+        return new ChangeMarker(mCommCodeRepository.findMaxUpdDate(), mCommCodeRepository.count());
+    }
+
+    /** 정렬된 코드 목록을 코드 그룹별 불변 목록으로 묶습니다. (그룹 안에서는 조회 순서 유지) */
+    private static Map<String, List<CommCodeItem>> group(List<CommCodeItem> items) {
+        Map<String, List<CommCodeItem>> groups = new LinkedHashMap<>();
+        for (CommCodeItem item : items) {
+            groups.computeIfAbsent(item.codeGrp(), key -> new ArrayList<>()).add(item);
+        }
+        groups.replaceAll((codeGrp, codes) -> List.copyOf(codes));
+        return Map.copyOf(groups);
+    }
+
+    private record ChangeMarker(LocalDateTime maxUpdDate, long count) {
+    }
+}
@@ -1,28 +1,38 @@
 package com.kydbm.monarch.service;
 
-import com.kydbm.monarch.mapper.MStructureMapper;
 import org.springframework.stereotype.Service;
 
 /**
  * 동적 그리드의 구조(Structure) 정보를 관리하는 서비스.
- * M_STRUCTURE 테이블에서 화면 구성 정보를 조회합니다.
+ * M_STRUCTURE 테이블에서 화면 구성 정보를 조회합니다. (메타데이터 캐시 경유, 불러올 때 한 번 정리된 내용)
  */
 @Service
 public class DynamicGridStructure {
 
-    private final MStructureMapper mStructureMapper;
+    private final ServiceMetadataCache serviceMetadataCache;
 
-    public DynamicGridStructure(MStructureMapper mStructureMapper) {
-        this.mStructureMapper = mStructureMapper;
+    public DynamicGridStructure(ServiceMetadataCache serviceMetadataCache) {
+        this.serviceMetadataCache = serviceMetadataCache;
     }
 
     /**
      * structureName과 usiteNo를 기반으로 화면 구성 정보(JSON 문자열)를 가져옵니다.
      * @param structureName 조회할 화면의 고유 이름
      * @param usiteNo 회원사 번호
-     * @return 조회된 화면 구성 정보 (JSON 형식의 문자열)
+     * @return 조회된 화면 구성 정보 (주석/쉼표/공백을 정리한 JSON 형식의 문자열, 없으면 null)
      */
     public String getStructureByName(String structureName, Long usiteNo) {
-        return mStructureMapper.findByName(structureName, usiteNo);
+        StructureDefinition structure = serviceMetadataCache.getStructure(structureName, usiteNo);
+        return structure == null ? null : structure.getContent();
+    }
+
+    /**
+     * 화면 구성 정의(정리된 내용, 응답 본문, ETag)를 가져옵니다.
+     * @param structureName 조회할 화면의 고유 이름
+     * @param usiteNo 회원사 번호
+     * @return 화면 구성 정의 (없으면 null)
+     */
+    public StructureDefinition getStructure(String structureName, Long usiteNo) {
+        return serviceMetadataCache.getStructure(structureName, usiteNo);
     }
 }
@@ -0,0 +1,61 @@
+package com.kydbm.monarch.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 동적 쿼리 실행 한 건의 JFR(Java Flight Recorder) 이벤트.
+ * 이벤트의 시작/종료 시각으로 실행 구간이 기록되므로, 프로파일링 샘플을 어느 서비스 실행 중에 수집했는지 알 수 있습니다.
+ * 녹화 중이 아니면 `shouldCommit()`이 false를 반환하여 필드 설정과 기록을 모두 건너뜁니다.
+ */
+@Name("com.kydbm.monarch.DynamicQuery")
+@Label("Dynamic Query")
+@Category({"Monarch", "Dynamic Query"})
+@Description("Execution of an M_SERVICE dynamic query")
+@StackTrace(false)
+class DynamicQueryEvent extends Event {
+
+    @Label("Tenant")
+    long tenant;
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Exec Type")
+    String execType;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Metadata Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long metadataTime;
+
+    @Label("Render Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long renderTime;
+
+    @Label("Query Time")
+    @Description("Time spent in the main (READ/DML) or page (LIST) query")
+    @Timespan(Timespan.NANOSECONDS)
+    long queryTime;
+
+    @Label("Count Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long countTime;
+
+    @Label("Serialization Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long serializationTime;
+}
@@ -1,21 +1,35 @@
 package com.kydbm.monarch.service;
 
-import com.kydbm.monarch.mapper.MServiceMapper;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kydbm.monarch.config.DataSourceRegistry;
+import com.kydbm.monarch.config.ReplicaRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.lang.NonNull;
 import org.springframework.context.ApplicationContextAware;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import java.sql.Clob;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 
 /**
@@ -27,8 +41,23 @@ import org.slf4j.Logger;
 public class DynamicQueryService implements ApplicationContextAware {
 
     private static final Logger log = LoggerFactory.getLogger(DynamicQueryService.class);
-    private final MServiceMapper mServiceMapper;
-    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    /** LIST 페이징 쿼리에서 전체 건수를 담는 내부 컬럼명. 응답 전에 각 행에서 제거됩니다. */
+    private static final String TOTAL_COUNT_COLUMN = "MON_TOTAL_CNT";
+    private final ServiceMetadataCache serviceMetadataCache;
+    private final DataSourceRegistry dataSourceRegistry;
+    private final ReplicaRouter replicaRouter;
+    private final SqlTextStats sqlTextStats;
+    private final QueryResultCache queryResultCache;
+    private final QueryCoalescer queryCoalescer;
+    private final QueryBulkhead queryBulkhead;
+    private final QueryMetrics queryMetrics;
+    private final SlowQueryLog slowQueryLog;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    /** 일괄 실행 시 한 번의 JDBC 배치로 전송할 최대 행 수 */
+    private final int batchChunkSize;
+    /** QUERY_TIMEOUT이 비어 있는 서비스의 쿼리 제한 시간(초) */
+    private final int defaultTimeoutSeconds;
     private ApplicationContext applicationContext;
 
     /** Spring 컨테이너가 Bean 초기화 시 ApplicationContext를 주입합니다. */
@@ -38,9 +67,25 @@ public class DynamicQueryService implements ApplicationContextAware {
     }
 
     /** Spring이 필요한 의존성을 자동으로 주입하는 생성자 */
-    public DynamicQueryService(MServiceMapper mServiceMapper, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
-        this.mServiceMapper = mServiceMapper;
-        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    public DynamicQueryService(ServiceMetadataCache serviceMetadataCache, DataSourceRegistry dataSourceRegistry, ReplicaRouter replicaRouter,
+                               SqlTextStats sqlTextStats, QueryResultCache queryResultCache, QueryCoalescer queryCoalescer,
+                               QueryBulkhead queryBulkhead, QueryMetrics queryMetrics,
+                               SlowQueryLog slowQueryLog, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                               @Value("${monarch.query.batch-chunk-size:500}") int batchChunkSize,
+                               @Value("${monarch.query.timeout-seconds:60}") int defaultTimeoutSeconds) {
+        this.serviceMetadataCache = serviceMetadataCache;
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.replicaRouter = replicaRouter;
+        this.sqlTextStats = sqlTextStats;
+        this.queryResultCache = queryResultCache;
+        this.queryCoalescer = queryCoalescer;
+        this.queryBulkhead = queryBulkhead;
+        this.queryMetrics = queryMetrics;
+        this.slowQueryLog = slowQueryLog;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.batchChunkSize = batchChunkSize;
+        this.defaultTimeoutSeconds = defaultTimeoutSeconds;
     }
 
     /**
@@ -49,114 +94,628 @@ public class DynamicQueryService implements ApplicationContextAware {
      * @param methodName M_SERVICE 테이블의 METHOD_NAME 컬럼 값
      * @param mUsiteNo 회원사 번호
      * @param queryParams 쿼리 실행에 필요한 파라미터들을 담은 Map
-     * @return 쿼리 실행 결과 (List<Map<String, Object>> 형태)
+     * @return 쿼리 실행 결과 (List<Map<String, Object>> 형태, 여러 요청이 공유할 수 있으므로 수정하지 않아야 합니다.)
      */
-    @Transactional
     public List<Map<String, Object>> executeDynamicQuery(String serviceName, String methodName, Long mUsiteNo, Map<String, Object> queryParams) {
-        // 1. M_SERVICE 테이블에서 쿼리문 및 실행 타입(EXEC_TYPE) 조회
-        Map<String, Object> serviceInfo = mServiceMapper.findServiceQuery(mUsiteNo, serviceName, methodName);
+        return executeTraced(QueryTrace.start(), serviceName, methodName, mUsiteNo, queryParams, false);
+    }
 
-        if (serviceInfo == null) {
-            log.error("Service not found for: serviceName={}, methodName={}, mUsiteNo={}", serviceName, methodName, mUsiteNo);
-            throw new IllegalArgumentException("Service not found for: " + serviceName + ", " + methodName + ", " + mUsiteNo);
-        }
+    /**
+     * 동적 쿼리를 실행하고 결과를 JSON으로 직렬화합니다. (`/data/execute` 응답)
+     * 직렬화 시간과 응답 크기는 이 실행에서 찾은 서비스 정의로 기록합니다. (서비스를 다시 조회하지 않습니다.)
+     * @return 쿼리 실행 결과의 JSON (UTF-8)
+     */
+    public byte[] executeDynamicQueryAsJson(String serviceName, String methodName, Long mUsiteNo, Map<String, Object> queryParams) {
+        QueryTrace trace = QueryTrace.start();
+        List<Map<String, Object>> result = executeTraced(trace, serviceName, methodName, mUsiteNo, queryParams, false);
+        return queryMetrics.serialize(trace.service(), result);
+    }
 
-        String execType = (String) serviceInfo.get("EXEC_TYPE");
-        Object queryStmtObject = serviceInfo.get("QUERY_STMT");
-        String queryStmt;
+    /**
+     * READ/LIST 서비스만 실행합니다. 쓰기(INSERT/UPDATE/DELETE) 서비스이면 실행하지 않고 예외를 던집니다.
+     * 항목을 병렬로 실행하는 다중 쿼리 요청처럼 쓰기의 실행 순서를 보장할 수 없는 경로에서 사용합니다.
+     * @return 쿼리 실행 결과 (`executeDynamicQuery`와 같습니다.)
+     * @throws IllegalArgumentException 서비스가 READ/LIST가 아닌 경우
+     */
+    public List<Map<String, Object>> executeReadQuery(String serviceName, String methodName, Long mUsiteNo, Map<String, Object> queryParams) {
+        return executeTraced(QueryTrace.start(), serviceName, methodName, mUsiteNo, queryParams, true);
+    }
 
-        // CLOB/NCLOB 타입을 String으로 변환
-        if (queryStmtObject instanceof Clob) {
-            try {
-                queryStmt = ((Clob) queryStmtObject).getSubString(1, (int) ((Clob) queryStmtObject).length());
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to read CLOB data", e);
-            }
-        } else {
-            queryStmt = (String) queryStmtObject;
+    private List<Map<String, Object>> executeTraced(QueryTrace trace, String serviceName, String methodName, Long mUsiteNo,
+                                                    Map<String, Object> queryParams, boolean readOnly) {
+        // 실행 시간, 단계별 시간, 결과 행 수를 지표와 JFR 이벤트로 기록하고, 기준 시간을 넘은 실행은 SQL과 함께 보관합니다.
+        DynamicQueryEvent event = new DynamicQueryEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            List<Map<String, Object>> result = execute(serviceName, methodName, mUsiteNo, queryParams, readOnly);
+            success = true;
+            return result;
+        } finally {
+            finish(trace, event, mUsiteNo, serviceName, methodName, success);
         }
+    }
 
-        if (queryStmt == null || queryStmt.trim().isEmpty()) {
-            throw new IllegalArgumentException("Query statement is empty for the specified service.");
+    /**
+     * 실행 추적을 끝내고 지표, 느린 쿼리 기록, JFR 이벤트로 남깁니다.
+     */
+    private void finish(QueryTrace trace, DynamicQueryEvent event, Long mUsiteNo, String serviceName, String methodName, boolean success) {
+        trace.close();
+        queryMetrics.record(trace, mUsiteNo, success);
+        slowQueryLog.record(trace, mUsiteNo, success);
+        event.end();
+        // JFR 녹화 중이 아니면 false이므로 필드를 채우지 않습니다.
+        if (event.shouldCommit()) {
+            ServiceDefinition service = trace.service();
+            event.tenant = mUsiteNo == null ? 0L : mUsiteNo;
+            event.service = service != null ? service.getServiceName() : serviceName;
+            event.method = service != null ? service.getMethodName() : methodName;
+            event.execType = service != null ? service.getExecType() : null;
+            event.rows = trace.rows();
+            event.success = success;
+            event.metadataTime = trace.phaseNanos(QueryTrace.Phase.METADATA);
+            event.renderTime = trace.phaseNanos(QueryTrace.Phase.RENDER);
+            event.queryTime = trace.phaseNanos(QueryTrace.Phase.QUERY) + trace.phaseNanos(QueryTrace.Phase.PAGE);
+            event.countTime = trace.phaseNanos(QueryTrace.Phase.COUNT);
+            event.serializationTime = trace.phaseNanos(QueryTrace.Phase.SERIALIZATION);
+            event.commit();
         }
+    }
 
-        // 2. 동적 SQL 블록 처리 (예: /* AND USER_NAME = @USER_NAME@ */)
-        Pattern dynamicBlockPattern = Pattern.compile("/\\*([\\s\\S]*?@[a-zA-Z0-9_]+@[\\s\\S]*?)\\*/");
-        Matcher matcher = dynamicBlockPattern.matcher(queryStmt);
-        StringBuffer sb = new StringBuffer();
-        while (matcher.find()) {
-            String blockContent = matcher.group(1);
-            boolean paramExists = queryParams.keySet().stream()
-                    .anyMatch(key -> blockContent.contains("@" + key + "@"));
+    /**
+     * 쓰기 서비스는 트랜잭션 안에서 실행하고, 조회 서비스는 결과 캐시와 동시 요청 병합을 거쳐 실행합니다.
+     */
+    private List<Map<String, Object>> execute(String serviceName, String methodName, Long mUsiteNo, Map<String, Object> queryParams,
+                                              boolean readOnly) {
+        PreparedQuery query = prepare(serviceName, methodName, mUsiteNo, queryParams);
+        ServiceDefinition service = query.service();
 
-            if (paramExists) {
-                matcher.appendReplacement(sb, Matcher.quoteReplacement(blockContent));
-            } else {
-                matcher.appendReplacement(sb, "");
+        if (!QueryResultCache.isReadType(service.getExecType())) {
+            if (readOnly) {
+                throw new IllegalArgumentException("Only READ and LIST services can be executed here: " + service.getExecType());
             }
+            return executeInTransaction(service, query.target(), false, status -> {
+                List<Map<String, Object>> result = runQuery(query, queryParams);
+                // 쓰기 서비스는 같은 테이블을 조회하는 서비스의 캐시된 결과를 무효화합니다.
+                queryResultCache.invalidateTable(service.getTableName());
+                return result;
+            });
         }
-        matcher.appendTail(sb);
-        String finalQuery = sb.toString();
 
-        // 3. @PARAM@ 플레이스홀더를 :PARAM 형태로 치환 (SQL Injection 방지)
-        MapSqlParameterSource parameters = new MapSqlParameterSource();
-        Pattern placeholderPattern = Pattern.compile("@[a-zA-Z0-9_]+@");
-        Matcher placeholderMatcher = placeholderPattern.matcher(finalQuery);
-        StringBuffer querySb = new StringBuffer();
+        // 결과 캐시: CACHE_TTL이 지정된 READ/LIST 서비스는 같은 조건의 결과를 재사용합니다.
+        QueryKey key = QueryKey.of(service, query.sql(), query.parameters(), queryParams);
+        boolean cacheable = queryResultCache.isCacheable(service);
+        if (cacheable) {
+            List<Map<String, Object>> cached = queryResultCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
 
-        while (placeholderMatcher.find()) {
-            String placeholder = placeholderMatcher.group();
-            String paramName = placeholder.substring(1, placeholder.length() - 1);
-            Object paramValue = queryParams.get(paramName);
-            
-            if (paramName.toLowerCase().contains("password")) {
-                PasswordEncoder passwordEncoder = applicationContext.getBean(PasswordEncoder.class);
-                paramValue = (paramValue != null) ? passwordEncoder.encode(paramValue.toString()) : null;
+        Supplier<List<Map<String, Object>>> loader = () -> {
+            long tableVersion = queryResultCache.tableVersion(service.getTableName());
+            List<Map<String, Object>> result = executeInTransaction(service, query.target(), true, status -> runQuery(query, queryParams));
+            if (cacheable) {
+                queryResultCache.put(service, key, result, tableVersion);
             }
-            parameters.addValue(paramName, paramValue);
-            placeholderMatcher.appendReplacement(querySb, ":" + paramName);
+            return result;
+        };
+        // 호출자의 트랜잭션 안에서는 그 트랜잭션의 변경 내용이 보여야 하므로 다른 요청과 병합하지 않습니다.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
         }
-        placeholderMatcher.appendTail(querySb);
-        String executableQuery = querySb.toString();
+        // 같은 조건의 조회가 이미 실행 중이면 그 결과를 함께 받습니다. (동시 요청 병합)
+        return queryCoalescer.execute(key, Duration.ofSeconds(timeoutSeconds(service)), loader);
+    }
 
-        // 4. 쿼리 실행 및 결과 반환
-        log.info("Executing dynamic query ({}): {}", execType, executableQuery);
+    /**
+     * 준비된 쿼리를 실행 타입(EXEC_TYPE)에 맞게 실행합니다.
+     */
+    private List<Map<String, Object>> runQuery(PreparedQuery query, Map<String, Object> queryParams) {
+        String serviceName = query.service().getServiceName();
+        String methodName = query.service().getMethodName();
+        String execType = query.service().getExecType();
+        String executableQuery = query.sql();
+        MapSqlParameterSource parameters = query.parameters();
+        // _format=columnar: 행 목록을 컬럼 정보 + 값 배열 형식으로 변환하여 응답 크기를 줄입니다.
+        boolean columnar = "columnar".equalsIgnoreCase(String.valueOf(queryParams.get("_format")));
 
+        // 5. 쿼리 실행 및 결과 반환
         try {
             if ("READ".equalsIgnoreCase(execType)) {
-                return namedParameterJdbcTemplate.queryForList(executableQuery, parameters);
+                sqlTextStats.record(serviceName, methodName, executableQuery);
+                List<Map<String, Object>> rows = QueryTrace.time(QueryTrace.Phase.QUERY,
+                        () -> query.target().jdbcTemplate().queryForList(executableQuery, parameters));
+                QueryTrace.rows(rows.size());
+                return columnar ? List.of(QueryTrace.time(QueryTrace.Phase.SERIALIZATION, () -> ColumnarResult.encode(rows))) : rows;
             } else if ("LIST".equalsIgnoreCase(execType)) {
-                int page = Integer.parseInt(queryParams.getOrDefault("_page", "1").toString());
-                int size = Integer.parseInt(queryParams.getOrDefault("_size", "20").toString());
-                String sort = (String) queryParams.getOrDefault("_sort", "");
- 
-                String orderByClause = "";
-                if (sort != null && !sort.trim().isEmpty()) {
-                    if (!sort.matches("^[a-zA-Z0-9_.,\\sASCascDESCdesc]+$")) {
-                        throw new IllegalArgumentException("Invalid sort parameter.");
-                    }
-                    orderByClause = " ORDER BY " + sort;
+                ListPaging paging = ListPaging.from(queryParams);
+
+                // 키셋 페이징: 서비스에 KEYSET_KEY가 선언되어 있고 클라이언트가 _cursor를 보낸 경우 (첫 페이지는 빈 값)
+                if (isKeysetRequest(query.service(), queryParams)) {
+                    return List.of(executeKeysetPage(query, queryParams, paging.size(), columnar));
+                }
+
+                if (paging.countNone()) {
+                    // 전체 건수 없이 size+1건만 조회하여 다음 페이지 존재 여부(hasMore)만 판단합니다. (모바일 무한 스크롤용)
+                    String pagingQuery = hasMorePagingQuery(query, paging);
+                    List<Map<String, Object>> data = QueryTrace.time(QueryTrace.Phase.PAGE,
+                            () -> query.target().jdbcTemplate().queryForList(pagingQuery, parameters));
+
+                    boolean hasMore = data.size() > paging.size();
+                    QueryTrace.rows(Math.min(data.size(), paging.size()));
+                    return List.of(Map.of("data", formatRows(hasMore ? data.subList(0, paging.size()) : data, columnar), "hasMore", hasMore));
                 }
- 
-                String countQuery = "SELECT COUNT(*) FROM (" + executableQuery + ")";
-                Integer totalCount = namedParameterJdbcTemplate.queryForObject(countQuery, parameters, Integer.class);
- 
-                int startRow = (page - 1) * size;
-                int endRow = page * size;
-                String pagingQuery = "SELECT * FROM (SELECT a.*, ROWNUM rnum FROM (" + executableQuery + orderByClause + ") a WHERE ROWNUM <= " + endRow + ") WHERE rnum > " + startRow;
-                List<Map<String, Object>> data = namedParameterJdbcTemplate.queryForList(pagingQuery, parameters);
- 
-                return List.of(Map.of("data", data, "totalCount", totalCount));
+
+                String pagingQuery = totalCountPagingQuery(query, paging);
+                List<Map<String, Object>> data = QueryTrace.time(QueryTrace.Phase.PAGE,
+                        () -> query.target().jdbcTemplate().queryForList(pagingQuery, parameters));
+                QueryTrace.rows(data.size());
+
+                Integer totalCount;
+                if (!data.isEmpty()) {
+                    totalCount = ((Number) data.get(0).get(TOTAL_COUNT_COLUMN)).intValue();
+                    data.forEach(row -> row.remove(TOTAL_COUNT_COLUMN));
+                } else {
+                    totalCount = countBeyondLastPage(query, paging);
+                }
+
+                return List.of(Map.of("data", formatRows(data, columnar), "totalCount", totalCount));
             } else if ("INSERT".equalsIgnoreCase(execType) || "UPDATE".equalsIgnoreCase(execType) || "DELETE".equalsIgnoreCase(execType)) {
-                int affectedRows = namedParameterJdbcTemplate.update(executableQuery, parameters);
+                sqlTextStats.record(serviceName, methodName, executableQuery);
+                int affectedRows = QueryTrace.time(QueryTrace.Phase.QUERY,
+                        () -> query.target().jdbcTemplate().update(executableQuery, parameters));
+                QueryTrace.rows(affectedRows);
                 return List.of(Map.of("affectedRows", affectedRows));
             } else {
                 log.warn("Unsupported EXEC_TYPE: {}", execType);
                 throw new IllegalArgumentException("Unsupported EXEC_TYPE: " + execType);
             }
         } catch (Exception e) {
-            log.error("Error executing dynamic query: serviceName={}, methodName={}, mUsiteNo={}, queryParams={}", serviceName, methodName, mUsiteNo, queryParams, e);
+            log.error("Error executing dynamic query: serviceName={}, methodName={}, mUsiteNo={}, queryParams={}",
+                    serviceName, methodName, query.service().getMUsiteNo(), queryParams, e);
             throw new RuntimeException("Error executing dynamic query: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * INSERT/UPDATE/DELETE 서비스를 여러 파라미터 묶음으로 한 번에 실행합니다. (그리드 일괄 저장)
+     * 같은 SQL로 렌더링되는 연속된 행은 JDBC 배치(`batchUpdate`)로 묶어 청크 단위로 전송하며, 전체가 하나의 트랜잭션으로 처리됩니다.
+     * @param serviceName M_SERVICE 테이블의 SERVICE_NAME 컬럼 값
+     * @param methodName M_SERVICE 테이블의 METHOD_NAME 컬럼 값
+     * @param mUsiteNo 회원사 번호
+     * @param rows 행별 쿼리 파라미터 목록
+     * @return affectedRows(행별 처리 건수, 요청 순서), totalAffectedRows(합계)를 담은 결과
+     */
+    public List<Map<String, Object>> executeBatch(String serviceName, String methodName, Long mUsiteNo, List<Map<String, Object>> rows) {
+        ServiceDefinition service = findService(serviceName, methodName, mUsiteNo);
+        if (QueryResultCache.isReadType(service.getExecType())) {
+            throw new IllegalArgumentException("Batch execution is supported only for INSERT/UPDATE/DELETE services: " + service.getExecType());
+        }
+        DataSourceRegistry.Target target = dataSourceRegistry.resolve(service.getDsName());
+
+        int[] affectedRows = executeInTransaction(service, target, false, status -> {
+            int[] counts = runBatch(service, target, rows);
+            queryResultCache.invalidateTable(service.getTableName());
+            return counts;
+        });
+
+        int total = 0;
+        for (int count : affectedRows) {
+            total += Math.max(count, 0);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("affectedRows", affectedRows);
+        result.put("totalAffectedRows", total);
+        return List.of(result);
+    }
+
+    /**
+     * 행을 순서대로 렌더링하여, 같은 SQL이 이어지는 동안 배치에 모았다가 SQL이 바뀌거나 청크가 차면 전송합니다.
+     */
+    private int[] runBatch(ServiceDefinition service, DataSourceRegistry.Target target, List<Map<String, Object>> rows) {
+        int[] affectedRows = new int[rows.size()];
+        List<MapSqlParameterSource> chunk = new ArrayList<>(Math.min(rows.size(), batchChunkSize));
+        String chunkSql = null;
+        int chunkStart = 0;
+        try {
+            for (int i = 0; i < rows.size(); i++) {
+                SqlTemplate.Rendered rendered = service.getTemplate().render(rows.get(i).keySet());
+                if (!chunk.isEmpty() && (!rendered.sql().equals(chunkSql) || chunk.size() >= batchChunkSize)) {
+                    flushBatch(service, target, chunkSql, chunk, affectedRows, chunkStart);
+                    chunk.clear();
+                }
+                if (chunk.isEmpty()) {
+                    chunkSql = rendered.sql();
+                    chunkStart = i;
+                }
+                chunk.add(bindParameters(service, rendered, rows.get(i)));
+            }
+            if (!chunk.isEmpty()) {
+                flushBatch(service, target, chunkSql, chunk, affectedRows, chunkStart);
+            }
+        } catch (Exception e) {
+            log.error("Error executing batch: serviceName={}, methodName={}, mUsiteNo={}, rows={}",
+                    service.getServiceName(), service.getMethodName(), service.getMUsiteNo(), rows.size(), e);
+            throw new RuntimeException("Error executing batch: " + e.getMessage(), e);
+        }
+        return affectedRows;
+    }
+
+    private void flushBatch(ServiceDefinition service, DataSourceRegistry.Target target, String sql,
+                            List<MapSqlParameterSource> chunk, int[] affectedRows, int offset) {
+        sqlTextStats.record(service.getServiceName(), service.getMethodName(), sql);
+        log.debug("Executing batch ({}, {} rows): {}", service.getExecType(), chunk.size(), sql);
+        int[] counts = target.jdbcTemplate().batchUpdate(sql, chunk.toArray(new MapSqlParameterSource[0]));
+        System.arraycopy(counts, 0, affectedRows, offset, counts.length);
+    }
+
+    /**
+     * READ/LIST 서비스의 결과를 출력 스트림에 JSON으로 바로 기록합니다.
+     * 행을 Map으로 모으지 않고 `ResultSet`에서 읽는 즉시 기록하므로, 결과 건수와 관계없이 힙 사용량이 일정합니다.
+     * 응답 형식은 `executeDynamicQuery`의 결과를 직렬화한 것과 같습니다.
+     * (키셋 페이징은 페이지 크기만큼만 조회하므로 기존 방식으로 처리합니다.)
+     * @param out 응답 출력 스트림
+     */
+    public void streamDynamicQuery(String serviceName, String methodName, Long mUsiteNo, Map<String, Object> queryParams,
+                                   OutputStream out) throws IOException {
+        QueryTrace trace = QueryTrace.start();
+        DynamicQueryEvent event = new DynamicQueryEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            stream(serviceName, methodName, mUsiteNo, queryParams, out);
+            success = true;
+        } finally {
+            finish(trace, event, mUsiteNo, serviceName, methodName, success);
+        }
+    }
+
+    private void stream(String serviceName, String methodName, Long mUsiteNo, Map<String, Object> queryParams,
+                        OutputStream out) throws IOException {
+        PreparedQuery query = prepare(serviceName, methodName, mUsiteNo, queryParams);
+        String execType = query.service().getExecType();
+        if (!"READ".equalsIgnoreCase(execType) && !"LIST".equalsIgnoreCase(execType)) {
+            throw new IllegalArgumentException("Streaming is supported only for READ and LIST services: " + execType);
+        }
+
+        JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8);
+        try {
+            executeInTransaction(query.service(), query.target(), true, status -> {
+                writeStream(query, queryParams, generator);
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 중 발생한 오류 (콜백은 IOException을 던질 수 없어 감싸서 전달됩니다.)
+            throw e.getCause();
+        } finally {
+            generator.flush();
+        }
+    }
+
+    /** 조회 결과를 `executeDynamicQuery`와 같은 JSON 구조로 기록합니다. */
+    private void writeStream(PreparedQuery query, Map<String, Object> queryParams, JsonGenerator generator) {
+        String serviceName = query.service().getServiceName();
+        String methodName = query.service().getMethodName();
+        try {
+            generator.writeStartArray();
+            if ("READ".equalsIgnoreCase(query.service().getExecType())) {
+                sqlTextStats.record(serviceName, methodName, query.sql());
+                JsonRowWriter writer = new JsonRowWriter(generator, Integer.MAX_VALUE, null);
+                streamRows(query, query.sql(), writer, QueryTrace.Phase.QUERY);
+                QueryTrace.rows(writer.getRowCount());
+            } else {
+                ListPaging paging = ListPaging.from(queryParams);
+                if (isKeysetRequest(query.service(), queryParams)) {
+                    generator.writeObject(executeKeysetPage(query, queryParams, paging.size(), false));
+                } else {
+                    generator.writeStartObject();
+                    generator.writeFieldName("data");
+                    generator.writeStartArray();
+                    if (paging.countNone()) {
+                        JsonRowWriter writer = new JsonRowWriter(generator, paging.size(), null);
+                        streamRows(query, hasMorePagingQuery(query, paging), writer, QueryTrace.Phase.PAGE);
+                        QueryTrace.rows(Math.min(writer.getRowCount(), paging.size()));
+                        generator.writeEndArray();
+                        generator.writeBooleanField("hasMore", writer.getRowCount() > paging.size());
+                    } else {
+                        JsonRowWriter writer = new JsonRowWriter(generator, Integer.MAX_VALUE, TOTAL_COUNT_COLUMN);
+                        streamRows(query, totalCountPagingQuery(query, paging), writer, QueryTrace.Phase.PAGE);
+                        QueryTrace.rows(writer.getRowCount());
+                        generator.writeEndArray();
+                        generator.writeNumberField("totalCount", writer.getRowCount() > 0
+                                ? ((Number) writer.getHiddenValue()).intValue() : countBeyondLastPage(query, paging));
+                    }
+                    generator.writeEndObject();
+                }
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 서비스의 제한 시간을 적용한 트랜잭션 안에서 작업을 실행합니다.
+     * 먼저 회원사/서비스별 동시 실행 한도(`QueryBulkhead`)의 허가를 얻은 뒤, 데이터소스의 동시 실행 한도를 적용합니다.
+     * 제한 시간 초과는 `QueryTimedOutException`으로, 클라이언트 연결 종료로 인한 취소는 `QueryCancelledException`으로 바꾸어
+     * 서비스별로 집계합니다. (`monarch.query.aborted`, reason=timeout|cancelled)
+     */
+    private <T> T executeInTransaction(ServiceDefinition service, DataSourceRegistry.Target target, boolean readOnly,
+                                       TransactionCallback<T> action) {
+        int timeoutSeconds = timeoutSeconds(service);
+        try {
+            return queryBulkhead.execute(service, () -> target.execute(readOnly, timeoutSeconds, action));
+        } catch (RuntimeException e) {
+            QueryCancellation cancellation = QueryCancellation.current();
+            if ((cancellation != null && cancellation.isCancelled()) || hasCause(e, QueryCancelledException.class)) {
+                countAborted(service, "cancelled");
+                log.info("Dynamic query cancelled by client disconnect: serviceName={}, methodName={}",
+                        service.getServiceName(), service.getMethodName());
+                throw e instanceof QueryCancelledException ? e : new QueryCancelledException("Query cancelled: the client disconnected.", e);
+            }
+            if (hasCause(e, QueryTimeoutException.class) || hasCause(e, TransactionTimedOutException.class)
+                    || hasCause(e, SQLTimeoutException.class)) {
+                countAborted(service, "timeout");
+                log.warn("Dynamic query timed out after {}s: serviceName={}, methodName={}",
+                        timeoutSeconds, service.getServiceName(), service.getMethodName());
+                throw new QueryTimedOutException("Query timed out after " + timeoutSeconds + " seconds: "
+                        + service.getServiceName() + ", " + service.getMethodName(), e);
+            }
+            throw e;
+        }
+    }
+
+    /** 서비스의 제한 시간 (M_SERVICE.QUERY_TIMEOUT, 없으면 기본값) */
+    private int timeoutSeconds(ServiceDefinition service) {
+        return service.getQueryTimeoutSeconds() > 0 ? service.getQueryTimeoutSeconds() : defaultTimeoutSeconds;
+    }
+
+    private static boolean hasCause(Throwable e, Class<? extends Throwable> type) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void countAborted(ServiceDefinition service, String reason) {
+        Counter.builder("monarch.query.aborted")
+                .description("Dynamic query executions stopped by timeout or client disconnect")
+                .tag("service", service.getServiceName())
+                .tag("method", service.getMethodName())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 서비스 정의를 조회하고, 쿼리 템플릿을 렌더링한 뒤 바인딩 파라미터를 구성합니다.
+     */
+    private PreparedQuery prepare(String serviceName, String methodName, Long mUsiteNo, Map<String, Object> queryParams) {
+        // 1. 메타데이터 캐시에서 쿼리문 및 실행 타입(EXEC_TYPE) 조회
+        ServiceDefinition service = QueryTrace.time(QueryTrace.Phase.METADATA, () -> findService(serviceName, methodName, mUsiteNo));
+        QueryTrace.service(service);
+
+        // 2. 컴파일된 템플릿으로 동적 SQL 블록(/* AND USER_NAME = @USER_NAME@ */) 처리 및
+        //    @PARAM@ 플레이스홀더를 :PARAM 형태로 치환 (SQL Injection 방지)
+        // 3. 바인딩 파라미터 구성 (PARAM_SCHEMA에 선언된 파라미터는 해당 JDBC 타입으로 변환)
+        SqlTemplate.Rendered rendered = QueryTrace.time(QueryTrace.Phase.RENDER, () -> service.getTemplate().render(queryParams.keySet()));
+        String executableQuery = rendered.sql();
+        MapSqlParameterSource parameters = QueryTrace.time(QueryTrace.Phase.RENDER, () -> bindParameters(service, rendered, queryParams));
+
+        // 4. DS_NAME에 해당하는 데이터소스 선택 (비어 있으면 기본 데이터소스, READ/LIST는 복제본이 있으면 복제본)
+        DataSourceRegistry.Target target = QueryResultCache.isReadType(service.getExecType())
+                ? replicaRouter.routeRead(service.getDsName()) : dataSourceRegistry.resolve(service.getDsName());
+
+        // 실행할 SQL은 DEBUG로만 남깁니다. 느린 실행은 SlowQueryLog에서 SQL과 파라미터를 확인할 수 있습니다.
+        log.debug("Executing dynamic query ({}, {}): {}", service.getExecType(), target.name(), executableQuery);
+        QueryTrace.statement(executableQuery, parameters);
+        return new PreparedQuery(service, target, executableQuery, parameters);
+    }
+
+    /**
+     * 서비스 정의를 조회합니다. 서비스가 없거나 쿼리문이 비어 있으면 예외를 던집니다.
+     */
+    private ServiceDefinition findService(String serviceName, String methodName, Long mUsiteNo) {
+        ServiceDefinition service = serviceMetadataCache.getService(mUsiteNo, serviceName, methodName);
+
+        if (service == null) {
+            log.error("Service not found for: serviceName={}, methodName={}, mUsiteNo={}", serviceName, methodName, mUsiteNo);
+            throw new IllegalArgumentException("Service not found for: " + serviceName + ", " + methodName + ", " + mUsiteNo);
+        }
+
+        if (service.getTemplate() == null) {
+            throw new IllegalArgumentException("Query statement is empty for the specified service.");
+        }
+        return service;
+    }
+
+    /**
+     * 렌더링된 쿼리에서 사용하는 파라미터를 바인딩합니다.
+     * 비밀번호 파라미터는 암호화하고, PARAM_SCHEMA에 선언된 파라미터는 해당 JDBC 타입으로 변환합니다.
+     */
+    private MapSqlParameterSource bindParameters(ServiceDefinition service, SqlTemplate.Rendered rendered, Map<String, Object> queryParams) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        ParamSchema paramSchema = service.getParamSchema();
+        for (String paramName : rendered.paramNames()) {
+            Object paramValue = queryParams.get(paramName);
+            if (paramName.toLowerCase().contains("password")) {
+                PasswordEncoder passwordEncoder = applicationContext.getBean(PasswordEncoder.class);
+                paramValue = (paramValue != null) ? passwordEncoder.encode(paramValue.toString()) : null;
+                parameters.addValue(paramName, paramValue);
+            } else {
+                paramSchema.bind(parameters, paramName, paramValue);
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * 스트리밍 전용 템플릿(fetch size 적용)으로 쿼리를 실행하여 각 행을 처리기에 전달합니다.
+     * (행을 읽는 즉시 기록하므로 단계 시간에는 응답 기록 시간이 포함됩니다.)
+     */
+    private void streamRows(PreparedQuery query, String sql, JsonRowWriter writer, QueryTrace.Phase phase) {
+        QueryTrace.time(phase, () -> {
+            query.target().streamingJdbcTemplate().query(sql, query.parameters(), writer);
+            return null;
+        });
+    }
+
+    /** 요청한 응답 형식에 맞게 행 목록을 변환합니다. (기본: 행마다 Map, columnar: 열 중심 형식) */
+    private static Object formatRows(List<Map<String, Object>> rows, boolean columnar) {
+        return columnar ? QueryTrace.time(QueryTrace.Phase.SERIALIZATION, () -> ColumnarResult.encode(rows)) : rows;
+    }
+
+    private static boolean isKeysetRequest(ServiceDefinition service, Map<String, Object> queryParams) {
+        return service.getKeysetKey() != null && queryParams.containsKey("_cursor");
+    }
+
+    /**
+     * size+1건까지만 조회하는 페이징 쿼리를 만들고 페이지 범위를 바인딩합니다.
+     * 페이지 범위는 바인드 변수로 전달하여 페이지 번호와 관계없이 동일한 SQL 텍스트(커서)를 재사용합니다.
+     */
+    private String hasMorePagingQuery(PreparedQuery query, ListPaging paging) {
+        query.parameters().addValue("_startRow", paging.startRow());
+        query.parameters().addValue("_endRow", paging.page() * paging.size() + 1);
+        String pagingQuery = "SELECT * FROM (SELECT a.*, ROWNUM rnum FROM (" + query.sql() + paging.orderByClause()
+                + ") a WHERE ROWNUM <= :_endRow) WHERE rnum > :_startRow";
+        sqlTextStats.record(query.service().getServiceName(), query.service().getMethodName(), pagingQuery);
+        return pagingQuery;
+    }
+
+    /**
+     * 페이지 데이터와 전체 건수(COUNT(*) OVER ())를 한 번에 조회하는 페이징 쿼리를 만들고 페이지 범위를 바인딩합니다.
+     */
+    private String totalCountPagingQuery(PreparedQuery query, ListPaging paging) {
+        query.parameters().addValue("_startRow", paging.startRow());
+        query.parameters().addValue("_endRow", paging.page() * paging.size());
+        String pagingQuery = "SELECT * FROM (SELECT a.*, ROWNUM rnum, COUNT(*) OVER () " + TOTAL_COUNT_COLUMN
+                + " FROM (" + query.sql() + paging.orderByClause() + ") a) WHERE rnum > :_startRow AND rnum <= :_endRow ORDER BY rnum";
+        sqlTextStats.record(query.service().getServiceName(), query.service().getMethodName(), pagingQuery);
+        return pagingQuery;
+    }
+
+    /**
+     * 페이지에 행이 없을 때의 전체 건수를 구합니다.
+     * 첫 페이지가 비었다면 0건이고, 마지막 페이지를 넘어선 요청은 건수를 알 수 없으므로 별도로 집계합니다.
+     */
+    private Integer countBeyondLastPage(PreparedQuery query, ListPaging paging) {
+        if (paging.startRow() == 0) {
+            return 0;
+        }
+        String countQuery = "SELECT COUNT(*) FROM (" + query.sql() + ")";
+        sqlTextStats.record(query.service().getServiceName(), query.service().getMethodName(), countQuery);
+        return QueryTrace.time(QueryTrace.Phase.COUNT,
+                () -> query.target().jdbcTemplate().queryForObject(countQuery, query.parameters(), Integer.class));
+    }
+
+    /**
+     * 키셋(seek) 방식으로 한 페이지를 조회합니다. OFFSET이 없으므로 페이지 깊이와 관계없이 비용이 일정합니다.
+     * size+1건을 조회하여 다음 페이지 존재 여부를 판단하고, 마지막 행의 키 값으로 다음 커서를 만듭니다.
+     * @return data, hasMore, nextCursor(다음 페이지가 있을 때만)를 담은 Map
+     */
+    private Map<String, Object> executeKeysetPage(PreparedQuery query, Map<String, Object> queryParams, int size, boolean columnar) {
+        KeysetKey keysetKey = query.service().getKeysetKey();
+        MapSqlParameterSource parameters = query.parameters();
+        Object cursorParam = queryParams.get("_cursor");
+        String cursor = cursorParam == null ? "" : cursorParam.toString();
+
+        StringBuilder pagingQuery = new StringBuilder("SELECT * FROM (SELECT k.* FROM (").append(query.sql()).append(") k");
+        if (!cursor.isEmpty()) {
+            parameters.addValues(keysetKey.cursorBinds(cursor));
+            pagingQuery.append(" WHERE ").append(keysetKey.seekPredicate("k"));
+        }
+        pagingQuery.append(" ORDER BY ").append(keysetKey.orderBy("k")).append(") WHERE ROWNUM <= :_fetchSize");
+        parameters.addValue("_fetchSize", size + 1);
+
+        String sql = pagingQuery.toString();
+        sqlTextStats.record(query.service().getServiceName(), query.service().getMethodName(), sql);
+        List<Map<String, Object>> data = QueryTrace.time(QueryTrace.Phase.PAGE,
+                () -> query.target().jdbcTemplate().queryForList(sql, parameters));
+
+        boolean hasMore = data.size() > size;
+        if (hasMore) {
+            data = data.subList(0, size);
+        }
+        QueryTrace.rows(data.size());
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("data", formatRows(data, columnar));
+        result.put("hasMore", hasMore);
+        if (hasMore) {
+            result.put("nextCursor", keysetKey.encodeCursor(data.get(data.size() - 1)));
+        }
+        return result;
+    }
+
+    /**
+     * 정렬 조건을 정규화합니다. (공백 정리, ASC/DESC 대문자 통일)
+     * 같은 정렬이 공백이나 대소문자 차이로 서로 다른 SQL 텍스트가 되지 않도록 합니다.
+     * 예: "reg_date  desc,NAME" -> "reg_date DESC, NAME"
+     */
+    private static String normalizeSort(String sort) {
+        StringBuilder sb = new StringBuilder(sort.length());
+        for (String item : sort.split(",")) {
+            String[] tokens = item.trim().split("\\s+");
+            if (tokens.length == 0 || tokens[0].isEmpty()) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            for (int i = 0; i < tokens.length; i++) {
+                String token = tokens[i];
+                if (i > 0) {
+                    sb.append(' ');
+                    if (token.equalsIgnoreCase("ASC") || token.equalsIgnoreCase("DESC")) {
+                        token = token.toUpperCase();
+                    }
+                }
+                sb.append(token);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 실행 준비가 끝난 쿼리.
+     * @param service 서비스 정의
+     * @param target 실행할 데이터소스 (DS_NAME)
+     * @param sql 렌더링된 SQL
+     * @param parameters 바인딩 파라미터 (페이징 변수는 실행 시 추가됩니다.)
+     */
+    private record PreparedQuery(ServiceDefinition service, DataSourceRegistry.Target target, String sql,
+                                 MapSqlParameterSource parameters) {
+    }
+
+    /**
+     * LIST 요청의 페이징 조건.
+     * @param page 페이지 번호 (1부터)
+     * @param size 페이지 크기
+     * @param orderByClause 정규화된 ORDER BY 절 (정렬이 없으면 빈 문자열)
+     * @param countNone 전체 건수 대신 다음 페이지 존재 여부만 조회할지 여부 (`_count=none`)
+     */
+    private record ListPaging(int page, int size, String orderByClause, boolean countNone) {
+
+        static ListPaging from(Map<String, Object> queryParams) {
+            int page = Integer.parseInt(queryParams.getOrDefault("_page", "1").toString());
+            int size = Integer.parseInt(queryParams.getOrDefault("_size", "20").toString());
+            String sort = (String) queryParams.getOrDefault("_sort", "");
+
+            String orderByClause = "";
+            if (sort != null && !sort.trim().isEmpty()) {
+                if (!sort.matches("^[a-zA-Z0-9_.,\\sASCascDESCdesc]+$")) {
+                    throw new IllegalArgumentException("Invalid sort parameter.");
+                }
+                orderByClause = " ORDER BY " + normalizeSort(sort);
+            }
+            boolean countNone = "none".equalsIgnoreCase(String.valueOf(queryParams.get("_count")));
+            return new ListPaging(page, size, orderByClause, countNone);
+        }
+
+        int startRow() {
+            return (page - 1) * size;
+        }
+    }
 }
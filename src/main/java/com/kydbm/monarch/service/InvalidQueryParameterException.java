@@ -0,0 +1,16 @@
+package com.kydbm.monarch.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 요청 파라미터 값을 PARAM_SCHEMA에 선언된 타입으로 변환할 수 없을 때 발생하는 예외.
+ * 클라이언트의 입력 오류이므로 400(Bad Request)으로 응답됩니다.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidQueryParameterException extends IllegalArgumentException {
+
+    public InvalidQueryParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,85 @@
+package com.kydbm.monarch.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * `ResultSet`의 각 행을 Map으로 만들지 않고 곧바로 JSON 객체로 기록하는 행 처리기.
+ * 행은 읽히는 즉시 출력 스트림으로 내보내지므로, 결과 건수와 관계없이 힙 사용량이 일정합니다.
+ * 값 변환은 `queryForList`(ColumnMapRowMapper)와 같은 `JdbcUtils.getResultSetValue`를 사용하여
+ * 기존 응답과 동일한 JSON이 만들어집니다.
+ */
+class JsonRowWriter implements RowCallbackHandler {
+
+    private final JsonGenerator generator;
+    /** 기록할 최대 행 수. 이후의 행은 건수만 셉니다. (다음 페이지 존재 여부 확인용) */
+    private final int maxRows;
+    /** 응답에서 제외하고 값만 보관할 내부 컬럼명 (없으면 null) */
+    private final String hiddenColumn;
+
+    private String[] columnNames;
+    private int hiddenIndex = -1;
+    private Object hiddenValue;
+    private int rowCount;
+
+    JsonRowWriter(JsonGenerator generator, int maxRows, String hiddenColumn) {
+        this.generator = generator;
+        this.maxRows = maxRows;
+        this.hiddenColumn = hiddenColumn;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        if (columnNames == null) {
+            readColumns(rs.getMetaData());
+        }
+        rowCount++;
+        if (rowCount == 1 && hiddenIndex > 0) {
+            hiddenValue = JdbcUtils.getResultSetValue(rs, hiddenIndex);
+        }
+        if (rowCount > maxRows) {
+            return;
+        }
+        try {
+            generator.writeStartObject();
+            for (int i = 1; i < columnNames.length; i++) {
+                if (i == hiddenIndex) {
+                    continue;
+                }
+                generator.writeFieldName(columnNames[i]);
+                generator.writeObject(JdbcUtils.getResultSetValue(rs, i));
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readColumns(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        columnNames = new String[columnCount + 1];
+        for (int i = 1; i <= columnCount; i++) {
+            columnNames[i] = JdbcUtils.lookupColumnName(metaData, i);
+            if (columnNames[i].equalsIgnoreCase(hiddenColumn)) {
+                hiddenIndex = i;
+            }
+        }
+    }
+
+    /** 처리한 전체 행 수 (기록하지 않은 행 포함) */
+    int getRowCount() {
+        return rowCount;
+    }
+
+    /** 첫 행의 내부 컬럼 값. 행이 없으면 null을 반환합니다. */
+    Object getHiddenValue() {
+        return hiddenValue;
+    }
+}
@@ -0,0 +1,202 @@
+package com.kydbm.monarch.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 키셋(seek) 페이징에 사용하는 정렬 키. M_SERVICE.KEYSET_KEY 컬럼에 선언합니다.
+ * 예: "REG_DATE DESC, M_CUST_NO DESC" (마지막 컬럼까지 합쳐 유일해야 하며, NULL이 없어야 합니다.)
+ * <p>
+ * 클라이언트는 직전 페이지 마지막 행의 키 값을 담은 커서 토큰(`_cursor`)을 보내고,
+ * 서비스는 OFFSET 대신 "키가 커서보다 뒤에 있는 행"이라는 조건(seek predicate)을 추가합니다.
+ * 따라서 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+ */
+public final class KeysetKey {
+
+    private static final Pattern COLUMN_NAME = Pattern.compile("^[A-Za-z0-9_]+$");
+    private static final ObjectMapper TOKEN_MAPPER = new ObjectMapper();
+
+    private final List<Column> columns;
+
+    private KeysetKey(List<Column> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * KEYSET_KEY 선언을 해석합니다.
+     * @param declaration "컬럼 [ASC|DESC], ..." 형식의 문자열
+     * @return 정렬 키 (선언이 비어 있으면 null)
+     */
+    public static KeysetKey parse(String declaration) {
+        if (declaration == null || declaration.trim().isEmpty()) {
+            return null;
+        }
+        List<Column> columns = new ArrayList<>();
+        for (String item : declaration.split(",")) {
+            String[] tokens = item.trim().split("\\s+");
+            if (tokens.length > 2 || !COLUMN_NAME.matcher(tokens[0]).matches()) {
+                throw new IllegalArgumentException("Invalid KEYSET_KEY: " + declaration);
+            }
+            boolean descending = false;
+            if (tokens.length == 2) {
+                if ("DESC".equalsIgnoreCase(tokens[1])) {
+                    descending = true;
+                } else if (!"ASC".equalsIgnoreCase(tokens[1])) {
+                    throw new IllegalArgumentException("Invalid KEYSET_KEY: " + declaration);
+                }
+            }
+            columns.add(new Column(tokens[0].toUpperCase(), descending));
+        }
+        return new KeysetKey(Collections.unmodifiableList(columns));
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * ORDER BY 절 본문을 만듭니다. 예: "k.REG_DATE DESC, k.M_CUST_NO DESC"
+     */
+    public String orderBy(String alias) {
+        StringBuilder sb = new StringBuilder();
+        for (Column column : columns) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(alias).append('.').append(column.name()).append(column.descending() ? " DESC" : " ASC");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 커서 이후의 행만 남기는 조건을 만듭니다. 바인드 변수는 `:_k0`, `:_k1` ... 순서입니다.
+     * 예: k.A <= :_k0 AND ((k.A < :_k0) OR (k.A = :_k0 AND k.B < :_k1))
+     * <p>
+     * 앞의 `k.A <= :_k0`는 OR 조건과 중복되지만, 옵티마이저가 OR 조건만으로는 첫 번째 키 컬럼의 인덱스 범위 검색을
+     * 선택하지 못하는 경우가 있어 함께 붙입니다. (키 컬럼이 하나이면 붙이지 않습니다.)
+     */
+    public String seekPredicate(String alias) {
+        StringBuilder sb = new StringBuilder();
+        if (columns.size() > 1) {
+            Column first = columns.get(0);
+            sb.append(alias).append('.').append(first.name()).append(first.descending() ? " <= " : " >= ").append(":_k0 AND (");
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sb.append(" OR ");
+            }
+            sb.append('(');
+            for (int j = 0; j < i; j++) {
+                sb.append(alias).append('.').append(columns.get(j).name()).append(" = :_k").append(j).append(" AND ");
+            }
+            Column column = columns.get(i);
+            sb.append(alias).append('.').append(column.name()).append(column.descending() ? " < " : " > ").append(":_k").append(i);
+            sb.append(')');
+        }
+        if (columns.size() > 1) {
+            sb.append(')');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 커서 토큰을 `seekPredicate`의 바인드 변수(`_k0`, `_k1` ...)로 디코딩합니다.
+     * @param token `encodeCursor`로 만든 토큰
+     * @return 바인드 변수명 -> 값
+     */
+    public Map<String, Object> cursorBinds(String token) {
+        List<Object> values = decodeCursor(token);
+        Map<String, Object> binds = new LinkedHashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            binds.put("_k" + i, values.get(i));
+        }
+        return binds;
+    }
+
+    /**
+     * 행의 키 값을 커서 토큰으로 인코딩합니다. 값의 타입(숫자/일시/문자)을 함께 보존합니다.
+     * @param row 조회 결과 행 (보통 페이지의 마지막 행)
+     * @return URL-safe Base64 토큰
+     */
+    public String encodeCursor(Map<String, Object> row) {
+        List<String> values = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            Object value = row.get(column.name());
+            if (value == null) {
+                throw new IllegalStateException("Keyset key column " + column.name() + " must not be null.");
+            } else if (value instanceof Number) {
+                values.add("N" + new BigDecimal(value.toString()).toPlainString());
+            } else if (value instanceof Timestamp) {
+                values.add("T" + value);
+            } else if (value instanceof java.util.Date) {
+                values.add("T" + new Timestamp(((java.util.Date) value).getTime()));
+            } else {
+                values.add("S" + value);
+            }
+        }
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(TOKEN_MAPPER.writeValueAsBytes(values));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode keyset cursor", e);
+        }
+    }
+
+    /**
+     * 커서 토큰을 바인드 값 목록으로 디코딩합니다.
+     * @param token `encodeCursor`로 만든 토큰
+     * @return 키 컬럼 순서대로의 값 (BigDecimal / Timestamp / String)
+     */
+    public List<Object> decodeCursor(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("Invalid cursor parameter.");
+        }
+        List<String> encoded;
+        try {
+            encoded = TOKEN_MAPPER.readValue(Base64.getUrlDecoder().decode(token.getBytes(StandardCharsets.US_ASCII)),
+                    new TypeReference<List<String>>() { });
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor parameter.");
+        }
+        if (encoded == null || encoded.size() != columns.size()) {
+            throw new IllegalArgumentException("Invalid cursor parameter.");
+        }
+        List<Object> values = new ArrayList<>(encoded.size());
+        for (String item : encoded) {
+            if (item == null || item.isEmpty()) {
+                throw new IllegalArgumentException("Invalid cursor parameter.");
+            }
+            String body = item.substring(1);
+            try {
+                switch (item.charAt(0)) {
+                    case 'N' -> values.add(new BigDecimal(body));
+                    case 'T' -> values.add(Timestamp.valueOf(body));
+                    case 'S' -> values.add(body);
+                    default -> throw new IllegalArgumentException("Invalid cursor parameter.");
+                }
+            } catch (IllegalArgumentException e) {
+                // 변조된 값(숫자/일시 형식 오류)도 내부 메시지 없이 같은 오류로 거절합니다.
+                throw new IllegalArgumentException("Invalid cursor parameter.");
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 정렬 키를 구성하는 컬럼.
+     * @param name 컬럼명 (대문자)
+     * @param descending 내림차순 여부
+     */
+    public record Column(String name, boolean descending) {
+    }
+}
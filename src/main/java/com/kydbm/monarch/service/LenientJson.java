@@ -0,0 +1,375 @@
+package com.kydbm.monarch.service;
+
+/**
+ * 화면 구성 정보(STRUCTURE_CONT)처럼 JavaScript 객체 표기에 가깝게 작성된 설정을 표준 JSON으로 변환하는 파서. (JSON5 스타일)
+ * 원문을 한 번만 읽으면서 공백 없는 표준 JSON을 바로 출력하며, 정규식이나 중간 트리를 만들지 않습니다.
+ * <p>
+ * 허용하는 확장 문법:
+ * <ul>
+ *   <li>주석: `// ...`, `/* ... *&#47;` (문자열 안의 `//`는 주석이 아닙니다. 예: URL)</li>
+ *   <li>후행 쉼표, 연속된 쉼표: `[1, 2,]`, `{a: 1,, b: 2}`</li>
+ *   <li>따옴표 없는 키: `{service: "..."}` 및 작은따옴표 문자열: `'...'`</li>
+ *   <li>숫자: `+1`, `.5`, `5.`, `0x1F`</li>
+ *   <li>`undefined` (null로 변환)</li>
+ * </ul>
+ * 함수 등 JSON으로 표현할 수 없는 값이 있으면 `IllegalArgumentException`을 던집니다.
+ */
+public final class LenientJson {
+
+    /** 허용하는 최대 중첩 깊이 (스택 오버플로 방지) */
+    private static final int MAX_DEPTH = 512;
+
+    private final String src;
+    private final int length;
+    private final StringBuilder out;
+    private int pos;
+
+    private LenientJson(String src) {
+        this.src = src;
+        this.length = src.length();
+        this.out = new StringBuilder(length);
+    }
+
+    /**
+     * 원문을 공백 없는 표준 JSON으로 변환합니다.
+     * @param source 원문
+     * @return 표준 JSON
+     * @throws IllegalArgumentException 문법 오류 또는 JSON으로 표현할 수 없는 값이 있는 경우 (위치 포함)
+     */
+    public static String toStrictJson(String source) {
+        LenientJson parser = new LenientJson(source);
+        parser.skipBlank();
+        parser.value(0);
+        parser.skipBlank();
+        if (parser.pos < parser.length) {
+            throw parser.error("Unexpected content after the root value");
+        }
+        return parser.out.toString();
+    }
+
+    private void value(int depth) {
+        if (depth > MAX_DEPTH) {
+            throw error("Nesting too deep");
+        }
+        if (pos >= length) {
+            throw error("Unexpected end of input");
+        }
+        char c = src.charAt(pos);
+        if (c == '{') {
+            object(depth);
+        } else if (c == '[') {
+            array(depth);
+        } else if (c == '"' || c == '\'') {
+            string();
+        } else if (c == '-' || c == '+' || c == '.' || isDigit(c)) {
+            number();
+        } else if (Character.isJavaIdentifierStart(c)) {
+            literal();
+        } else {
+            throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+    private void object(int depth) {
+        pos++;
+        out.append('{');
+        boolean first = true;
+        boolean separated = true;
+        while (true) {
+            skipBlank();
+            if (pos >= length) {
+                throw error("Unterminated object");
+            }
+            char c = src.charAt(pos);
+            if (c == '}') {
+                pos++;
+                break;
+            }
+            if (c == ',') {
+                // 후행 쉼표와 연속된 쉼표는 건너뜁니다.
+                pos++;
+                separated = true;
+                continue;
+            }
+            if (!separated) {
+                throw error("Expected ',' or '}'");
+            }
+            if (!first) {
+                out.append(',');
+            }
+            key();
+            skipBlank();
+            if (pos >= length || src.charAt(pos) != ':') {
+                throw error("Expected ':'");
+            }
+            pos++;
+            out.append(':');
+            skipBlank();
+            value(depth + 1);
+            first = false;
+            separated = false;
+        }
+        out.append('}');
+    }
+
+    private void array(int depth) {
+        pos++;
+        out.append('[');
+        boolean first = true;
+        boolean separated = true;
+        while (true) {
+            skipBlank();
+            if (pos >= length) {
+                throw error("Unterminated array");
+            }
+            char c = src.charAt(pos);
+            if (c == ']') {
+                pos++;
+                break;
+            }
+            if (c == ',') {
+                pos++;
+                separated = true;
+                continue;
+            }
+            if (!separated) {
+                throw error("Expected ',' or ']'");
+            }
+            if (!first) {
+                out.append(',');
+            }
+            value(depth + 1);
+            first = false;
+            separated = false;
+        }
+        out.append(']');
+    }
+
+    /** 객체의 키. 따옴표가 없는 식별자는 큰따옴표로 감쌉니다. */
+    private void key() {
+        char c = src.charAt(pos);
+        if (c == '"' || c == '\'') {
+            string();
+        } else if (Character.isJavaIdentifierStart(c)) {
+            int start = pos;
+            while (pos < length && Character.isJavaIdentifierPart(src.charAt(pos))) {
+                pos++;
+            }
+            out.append('"').append(src, start, pos).append('"');
+        } else if (isDigit(c)) {
+            // 숫자 키 (예: {1: "A"})
+            int start = pos;
+            while (pos < length && isDigit(src.charAt(pos))) {
+                pos++;
+            }
+            out.append('"').append(src, start, pos).append('"');
+        } else {
+            throw error("Expected object key");
+        }
+    }
+
+    /** 큰따옴표/작은따옴표 문자열을 큰따옴표 JSON 문자열로 출력합니다. 특수 문자가 없는 구간은 한 번에 복사합니다. */
+    private void string() {
+        char quote = src.charAt(pos++);
+        out.append('"');
+        int runStart = pos;
+        while (true) {
+            if (pos >= length) {
+                throw error("Unterminated string");
+            }
+            char c = src.charAt(pos);
+            if (c != quote && c != '\\' && c != '"' && c >= 0x20) {
+                pos++;
+                continue;
+            }
+            out.append(src, runStart, pos);
+            pos++;
+            if (c == quote) {
+                break;
+            } else if (c == '\\') {
+                escape();
+            } else if (c == '"') {
+                out.append("\\\"");
+            } else {
+                appendControl(c);
+            }
+            runStart = pos;
+        }
+        out.append('"');
+    }
+
+    private void escape() {
+        if (pos >= length) {
+            throw error("Unterminated string");
+        }
+        char e = src.charAt(pos++);
+        switch (e) {
+            case '"', '\\', '/', 'b', 'f', 'n', 'r', 't' -> out.append('\\').append(e);
+            case '\'' -> out.append('\'');
+            case 'u' -> {
+                if (pos + 4 > length) {
+                    throw error("Invalid unicode escape");
+                }
+                for (int i = pos; i < pos + 4; i++) {
+                    if (Character.digit(src.charAt(i), 16) < 0) {
+                        throw error("Invalid unicode escape");
+                    }
+                }
+                out.append("\\u").append(src, pos, pos + 4);
+                pos += 4;
+            }
+            case '\n', '\u2028', '\u2029' -> {
+                // 줄 이어쓰기 (문자열에 포함하지 않음)
+            }
+            case '\r' -> {
+                if (pos < length && src.charAt(pos) == '\n') {
+                    pos++;
+                }
+            }
+            case '0' -> out.append("\\u0000");
+            default -> {
+                // JavaScript와 같이 알 수 없는 이스케이프는 문자 자체로 취급합니다.
+                if (e < 0x20) {
+                    appendControl(e);
+                } else {
+                    out.append(e);
+                }
+            }
+        }
+    }
+
+    private void appendControl(char c) {
+        switch (c) {
+            case '\n' -> out.append("\\n");
+            case '\r' -> out.append("\\r");
+            case '\t' -> out.append("\\t");
+            case '\b' -> out.append("\\b");
+            case '\f' -> out.append("\\f");
+            default -> out.append(String.format("\\u%04x", (int) c));
+        }
+    }
+
+    private void number() {
+        int start = pos;
+        char sign = src.charAt(pos);
+        if (sign == '+' || sign == '-') {
+            pos++;
+        }
+        if (pos + 1 < length && src.charAt(pos) == '0' && (src.charAt(pos + 1) == 'x' || src.charAt(pos + 1) == 'X')) {
+            int digitsStart = pos + 2;
+            pos = digitsStart;
+            while (pos < length && Character.digit(src.charAt(pos), 16) >= 0) {
+                pos++;
+            }
+            if (pos == digitsStart) {
+                throw error("Invalid hexadecimal number");
+            }
+            long value = Long.parseLong(src.substring(digitsStart, pos), 16);
+            out.append(sign == '-' ? -value : value);
+            return;
+        }
+        if (sign == '-') {
+            out.append('-');
+        }
+
+        int intStart = pos;
+        while (pos < length && isDigit(src.charAt(pos))) {
+            pos++;
+        }
+        int intEnd = pos;
+        // 불필요한 앞자리 0은 제거합니다. (JSON은 허용하지 않음)
+        int firstDigit = intStart;
+        while (firstDigit < intEnd - 1 && src.charAt(firstDigit) == '0') {
+            firstDigit++;
+        }
+        if (intEnd == intStart) {
+            out.append('0');
+        } else {
+            out.append(src, firstDigit, intEnd);
+        }
+
+        if (pos < length && src.charAt(pos) == '.') {
+            pos++;
+            int fractionStart = pos;
+            while (pos < length && isDigit(src.charAt(pos))) {
+                pos++;
+            }
+            if (pos > fractionStart) {
+                out.append('.').append(src, fractionStart, pos);
+            } else if (intEnd == intStart) {
+                throw error("Invalid number");
+            }
+        } else if (intEnd == intStart) {
+            if (pos < length && Character.isJavaIdentifierStart(src.charAt(pos))) {
+                throw error("Unsupported value (Infinity/NaN)");
+            }
+            throw error("Invalid number");
+        }
+
+        if (pos < length && (src.charAt(pos) == 'e' || src.charAt(pos) == 'E')) {
+            out.append('e');
+            pos++;
+            if (pos < length && (src.charAt(pos) == '+' || src.charAt(pos) == '-')) {
+                out.append(src.charAt(pos++));
+            }
+            int exponentStart = pos;
+            while (pos < length && isDigit(src.charAt(pos))) {
+                pos++;
+            }
+            if (pos == exponentStart) {
+                throw error("Invalid number exponent");
+            }
+            out.append(src, exponentStart, pos);
+        }
+        if (start == pos) {
+            throw error("Invalid number");
+        }
+    }
+
+    private void literal() {
+        int start = pos;
+        while (pos < length && Character.isJavaIdentifierPart(src.charAt(pos))) {
+            pos++;
+        }
+        String word = src.substring(start, pos);
+        switch (word) {
+            case "true", "false", "null" -> out.append(word);
+            case "undefined" -> out.append("null");
+            default -> {
+                pos = start;
+                throw error("Unsupported value '" + word + "'");
+            }
+        }
+    }
+
+    /** 공백과 주석을 건너뜁니다. */
+    private void skipBlank() {
+        while (pos < length) {
+            char c = src.charAt(pos);
+            if (c == '/' && pos + 1 < length && src.charAt(pos + 1) == '/') {
+                pos += 2;
+                while (pos < length && src.charAt(pos) != '\n' && src.charAt(pos) != '\r') {
+                    pos++;
+                }
+            } else if (c == '/' && pos + 1 < length && src.charAt(pos + 1) == '*') {
+                int end = src.indexOf("*/", pos + 2);
+                if (end < 0) {
+                    throw error("Unterminated comment");
+                }
+                pos = end + 2;
+            } else if (Character.isWhitespace(c) || c == '\u00A0' || c == '\uFEFF') {
+                pos++;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos);
+    }
+}
@@ -1,20 +1,26 @@
 package com.kydbm.monarch.service;
 
-import com.kydbm.monarch.domain.MCommCode;
-import com.kydbm.monarch.repository.MCommCodeRepository;
+import com.kydbm.monarch.domain.CommCodeItem;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class MCommCodeService {
 
-    private final MCommCodeRepository mCommCodeRepository;
+    private final CommCodeDictionary commCodeDictionary;
 
-    public List<MCommCode> getCommCodes(String codeGrp, Long mUsiteNo) {
-        // USE_FLAG = '1' 인 항목만 정렬 순서에 맞춰 조회 (Hibernate Repository 사용)
-        return mCommCodeRepository.findByCodeGrpAndMUsiteNoAndUseFlag(codeGrp, mUsiteNo, "1");
+    public List<CommCodeItem> getCommCodes(String codeGrp, Long mUsiteNo) {
+        // USE_FLAG = '1' 인 항목만 정렬 순서에 맞춰 반환 (메모리의 공통 코드 사전 사용)
+        return commCodeDictionary.getCodes(mUsiteNo, codeGrp);
+    }
+
+    public Map<String, List<CommCodeItem>> getCommCodes(Collection<String> codeGrps, Long mUsiteNo) {
+        // 여러 코드 그룹을 한 번에 반환 (요청 순서 유지, 없는 그룹은 빈 목록)
+        return commCodeDictionary.getCodes(mUsiteNo, codeGrps);
     }
 }
@@ -0,0 +1,57 @@
+package com.kydbm.monarch.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 한 요청 안의 독립적인 조회들을 병렬로 실행하는 스레드 풀. (다중 쿼리 요청 등)
+ * 풀과 대기열이 모두 차면 요청 스레드가 직접 실행하므로(CallerRunsPolicy) 동시 실행 수가 제한됩니다.
+ * <p>
+ * Spring의 기본 작업 실행기(applicationTaskExecutor)가 비활성화되지 않도록 Executor 빈으로 등록하지 않습니다.
+ */
+@Component
+public class ParallelQueryExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+
+    public ParallelQueryExecutor(@Value("${monarch.batch.parallelism:8}") int parallelism,
+                                 @Value("${monarch.batch.queue-capacity:200}") int queueCapacity,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            // 가상 스레드 모드: 작업마다 가상 스레드를 사용합니다. DB 동시 실행 수는 DbConcurrencyLimiter가 제한합니다.
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("parallel-query-", 0).factory());
+        } else {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("parallel-query-"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+        }
+    }
+
+    /**
+     * 작업을 풀에서 실행합니다. 호출한 스레드의 취소 범위(`QueryCancellation`)는 작업에도 그대로 적용됩니다.
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        QueryCancellation cancellation = QueryCancellation.current();
+        Supplier<T> scoped = cancellation == null ? task : () -> cancellation.run(task);
+        return CompletableFuture.supplyAsync(scoped, executor);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
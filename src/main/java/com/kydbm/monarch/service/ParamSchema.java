@@ -0,0 +1,149 @@
+package com.kydbm.monarch.service;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서비스별 파라미터 스키마. M_SERVICE.PARAM_SCHEMA 컬럼에 선언합니다.
+ * 형식: "이름:타입[:포맷]"을 세미콜론(;) 또는 줄바꿈으로 구분합니다.
+ * 예: "M_USER_NO:NUMBER; REG_DATE_FROM:DATE:yyyy-MM-dd; REG_DATE_TO:DATE:yyyy-MM-dd"
+ * <p>
+ * 요청 파라미터는 모두 문자열로 들어오므로, 스키마가 없으면 Oracle이 NUMBER/DATE 컬럼 쪽에
+ * 암묵적 형변환(TO_NUMBER 등)을 적용하여 인덱스를 사용하지 못합니다.
+ * 스키마에 선언된 파라미터는 바인딩 전에 올바른 JDBC 타입으로 변환합니다.
+ */
+public final class ParamSchema {
+
+    /** 지원하는 파라미터 타입 */
+    public enum ParamType {
+        VARCHAR(Types.VARCHAR, null),
+        NUMBER(Types.NUMERIC, null),
+        INTEGER(Types.BIGINT, null),
+        DATE(Types.DATE, "yyyy-MM-dd"),
+        TIMESTAMP(Types.TIMESTAMP, "yyyy-MM-dd HH:mm:ss");
+
+        private final int sqlType;
+        private final String defaultFormat;
+
+        ParamType(int sqlType, String defaultFormat) {
+            this.sqlType = sqlType;
+            this.defaultFormat = defaultFormat;
+        }
+    }
+
+    /**
+     * 파라미터 하나의 선언.
+     * @param name 파라미터 이름
+     * @param type 타입
+     * @param format 날짜/일시 포맷 (DATE, TIMESTAMP에만 사용)
+     */
+    public record ParamSpec(String name, ParamType type, String format) {
+    }
+
+    private static final ParamSchema EMPTY = new ParamSchema(Collections.emptyMap());
+
+    private final Map<String, Spec> specs;
+
+    private ParamSchema(Map<String, Spec> specs) {
+        this.specs = specs;
+    }
+
+    /**
+     * PARAM_SCHEMA 선언을 해석합니다.
+     * @param declaration 스키마 선언 문자열 (null 또는 빈 값이면 빈 스키마)
+     * @return 파라미터 스키마
+     */
+    public static ParamSchema parse(String declaration) {
+        if (declaration == null || declaration.trim().isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, Spec> specs = new LinkedHashMap<>();
+        for (String item : declaration.split("[;\\r\\n]+")) {
+            String trimmed = item.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] parts = trimmed.split(":", 3);
+            if (parts.length < 2) {
+                throw new IllegalArgumentException("Invalid PARAM_SCHEMA entry: " + trimmed);
+            }
+            String name = parts[0].trim();
+            ParamType type;
+            try {
+                type = ParamType.valueOf(parts[1].trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported parameter type in PARAM_SCHEMA: " + trimmed);
+            }
+            String format = parts.length == 3 ? parts[2].trim() : type.defaultFormat;
+            ParamSpec spec = new ParamSpec(name, type, format);
+            specs.put(name, new Spec(spec, format == null ? null : DateTimeFormatter.ofPattern(format)));
+        }
+        return new ParamSchema(Collections.unmodifiableMap(specs));
+    }
+
+    /** 스키마에 선언된 파라미터인지 여부 */
+    public boolean isTyped(String name) {
+        return specs.containsKey(name);
+    }
+
+    /**
+     * 파라미터를 스키마에 맞는 타입으로 변환하여 바인딩합니다. 선언되지 않은 파라미터는 그대로 바인딩합니다.
+     * @param parameters 바인딩 대상
+     * @param name 파라미터 이름
+     * @param value 요청 값
+     */
+    public void bind(MapSqlParameterSource parameters, String name, Object value) {
+        Spec spec = specs.get(name);
+        if (spec == null) {
+            parameters.addValue(name, value);
+            return;
+        }
+        parameters.addValue(name, coerce(spec, value), spec.declaration().type().sqlType);
+    }
+
+    /**
+     * 요청 값을 선언된 타입으로 변환합니다. 빈 문자열은 NULL로 취급합니다.
+     * @throws InvalidQueryParameterException 값을 변환할 수 없는 경우 (400으로 응답)
+     */
+    private static Object coerce(Spec spec, Object value) {
+        if (value == null || (value instanceof String && ((String) value).trim().isEmpty())) {
+            return null;
+        }
+        ParamSpec declaration = spec.declaration();
+        try {
+            switch (declaration.type()) {
+                case NUMBER:
+                    return value instanceof BigDecimal ? value : new BigDecimal(value.toString().trim());
+                case INTEGER:
+                    return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString().trim());
+                case DATE:
+                case TIMESTAMP:
+                    if (value instanceof java.util.Date) {
+                        return new Timestamp(((java.util.Date) value).getTime());
+                    }
+                    TemporalAccessor parsed = spec.formatter().parseBest(value.toString().trim(), LocalDateTime::from, LocalDate::from);
+                    LocalDateTime dateTime = parsed instanceof LocalDateTime
+                            ? (LocalDateTime) parsed : ((LocalDate) parsed).atStartOfDay();
+                    return Timestamp.valueOf(dateTime);
+                default:
+                    return value.toString();
+            }
+        } catch (RuntimeException e) {
+            throw new InvalidQueryParameterException("Invalid value for parameter " + declaration.name()
+                    + " (expected " + declaration.type() + (declaration.format() != null ? " " + declaration.format() : "") + ")");
+        }
+    }
+
+    private record Spec(ParamSpec declaration, DateTimeFormatter formatter) {
+    }
+}
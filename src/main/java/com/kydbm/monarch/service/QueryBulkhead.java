@@ -0,0 +1,147 @@
+package com.kydbm.monarch.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 회원사(M_USITE_NO)별, 서비스(SERVICE_NAME.METHOD_NAME)별 동적 쿼리 동시 실행 한도. (bulkhead)
+ * 한 회원사의 대용량 조회나 한 서비스의 무거운 쿼리가 공용 커넥션 풀을 모두 차지하지 않도록 합니다.
+ * 한도를 넘은 요청은 `monarch.bulkhead.max-wait-ms` 동안만 기다린 뒤 `QueryThrottledException`(429)으로 거절됩니다.
+ * <pre>
+ * monarch.bulkhead.tenant-max-concurrency=20
+ * monarch.bulkhead.tenants.3=5
+ * monarch.bulkhead.service-max-concurrency=0
+ * monarch.bulkhead.services[REPORT.EXPORT_LIST]=2
+ * </pre>
+ * 한도가 0이면 제한하지 않습니다. 현재 사용 중인 수는 `monarch.bulkhead.active`(scope=tenant|service) 게이지로,
+ * 거절 수는 `monarch.bulkhead.rejected` 지표로 노출됩니다.
+ */
+@Component
+public class QueryBulkhead {
+
+    private final MeterRegistry meterRegistry;
+    private final long maxWaitMs;
+    private final int tenantMaxConcurrency;
+    private final int serviceMaxConcurrency;
+    /** 회원사 번호 -> 한도 */
+    private final Map<String, Integer> tenantLimits;
+    /** 대문자 "SERVICE_NAME.METHOD_NAME" -> 한도 */
+    private final Map<String, Integer> serviceLimits = new HashMap<>();
+    /** "scope:key" -> 구획 */
+    private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+    /** 현재 스레드가 이미 허가를 얻은 구획 (중첩 호출 시 재사용) */
+    private final ThreadLocal<Set<Compartment>> held = ThreadLocal.withInitial(HashSet::new);
+
+    public QueryBulkhead(MeterRegistry meterRegistry, Environment environment,
+                         @Value("${monarch.bulkhead.max-wait-ms:200}") long maxWaitMs,
+                         @Value("${monarch.bulkhead.tenant-max-concurrency:0}") int tenantMaxConcurrency,
+                         @Value("${monarch.bulkhead.service-max-concurrency:0}") int serviceMaxConcurrency) {
+        this.meterRegistry = meterRegistry;
+        this.maxWaitMs = maxWaitMs;
+        this.tenantMaxConcurrency = tenantMaxConcurrency;
+        this.serviceMaxConcurrency = serviceMaxConcurrency;
+        Binder binder = Binder.get(environment);
+        this.tenantLimits = binder.bind("monarch.bulkhead.tenants", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Collections.emptyMap());
+        binder.bind("monarch.bulkhead.services", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Collections.emptyMap())
+                .forEach((key, limit) -> serviceLimits.put(key.toUpperCase(), limit));
+    }
+
+    /**
+     * 서비스가 속한 회원사와 서비스의 허가를 얻은 뒤 작업을 실행합니다.
+     * @param service 실행할 서비스
+     * @param action 실행할 작업
+     * @throws QueryThrottledException 대기 시간 안에 허가를 얻지 못한 경우
+     */
+    public <T> T execute(ServiceDefinition service, Supplier<T> action) {
+        String tenantKey = String.valueOf(service.getMUsiteNo());
+        String serviceKey = (service.getServiceName() + "." + service.getMethodName()).toUpperCase();
+        Compartment tenant = compartment("tenant", tenantKey, tenantLimits.getOrDefault(tenantKey, tenantMaxConcurrency));
+        Compartment target = compartment("service", serviceKey, serviceLimits.getOrDefault(serviceKey, serviceMaxConcurrency));
+
+        Set<Compartment> acquired = new HashSet<>(2);
+        try {
+            acquire(tenant, acquired);
+            acquire(target, acquired);
+            return action.get();
+        } finally {
+            for (Compartment compartment : acquired) {
+                held.get().remove(compartment);
+                compartment.permits.release();
+            }
+        }
+    }
+
+    private void acquire(Compartment compartment, Set<Compartment> acquired) {
+        if (compartment == null || held.get().contains(compartment)) {
+            return;
+        }
+        boolean granted;
+        try {
+            granted = compartment.permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            granted = false;
+        }
+        if (!granted) {
+            Counter.builder("monarch.bulkhead.rejected")
+                    .description("Dynamic queries rejected by a tenant or service concurrency limit")
+                    .tag("scope", compartment.scope)
+                    .tag("key", compartment.key)
+                    .register(meterRegistry)
+                    .increment();
+            throw new QueryThrottledException("Too many concurrent queries for " + compartment.scope + " " + compartment.key
+                    + " (max " + compartment.limit + "). Please retry later.");
+        }
+        held.get().add(compartment);
+        acquired.add(compartment);
+    }
+
+    /** 구획을 반환합니다. 한도가 0 이하이면 제한하지 않으므로 null을 반환합니다. */
+    private Compartment compartment(String scope, String key, int limit) {
+        if (limit <= 0) {
+            return null;
+        }
+        return compartments.computeIfAbsent(scope + ":" + key, k -> {
+            Compartment compartment = new Compartment(scope, key, limit);
+            Gauge.builder("monarch.bulkhead.active", compartment, c -> c.limit - c.permits.availablePermits())
+                    .description("Dynamic queries currently running within a tenant or service concurrency limit")
+                    .tag("scope", scope)
+                    .tag("key", key)
+                    .register(meterRegistry);
+            return compartment;
+        });
+    }
+
+    /** 회원사 또는 서비스 하나의 동시 실행 한도 */
+    private static final class Compartment {
+        private final String scope;
+        private final String key;
+        private final int limit;
+        private final Semaphore permits;
+
+        private Compartment(String scope, String key, int limit) {
+            this.scope = scope;
+            this.key = key;
+            this.limit = limit;
+            this.permits = new Semaphore(limit, true);
+        }
+    }
+}
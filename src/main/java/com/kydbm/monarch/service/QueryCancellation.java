@@ -0,0 +1,94 @@
+package com.kydbm.monarch.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나에서 실행 중인 JDBC `Statement`를 추적하여, 클라이언트 연결이 끊겼을 때 DB에서 실행 중인 쿼리를 취소합니다.
+ * `run`으로 감싼 작업 안에서 `CancellableJdbcTemplate`이 만든 Statement가 자동으로 등록되며,
+ * 다른 스레드(서블릿 컨테이너의 비동기 오류/완료 콜백)에서 `cancel`을 호출하면 `Statement.cancel()`로 쿼리를 중단합니다.
+ * 취소된 뒤에 새로 실행하려는 쿼리는 DB로 보내지 않고 `QueryCancelledException`으로 중단합니다.
+ */
+public final class QueryCancellation {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCancellation.class);
+    private static final ThreadLocal<QueryCancellation> CURRENT = new ThreadLocal<>();
+
+    private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    /** 현재 스레드의 취소 범위. 범위 밖이면 null을 반환합니다. */
+    public static QueryCancellation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드를 이 취소 범위에 묶은 채로 작업을 실행합니다.
+     * @param action 실행할 작업
+     */
+    public <T> T run(Supplier<T> action) {
+        QueryCancellation previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 실행 중인 쿼리를 모두 취소하고, 이후의 쿼리 실행을 막습니다. 작업이 이미 끝났으면 아무 일도 하지 않습니다.
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Statement statement : statements) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                // 이미 닫힌 Statement 등: 취소할 쿼리가 없으므로 무시합니다.
+                log.debug("Failed to cancel statement: {}", e.getMessage());
+            }
+        }
+        statements.clear();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 현재 스레드의 취소 범위에 Statement를 등록합니다. (범위 밖이면 무시)
+     * @throws QueryCancelledException 이미 취소된 경우
+     */
+    public static void register(Statement statement) {
+        QueryCancellation cancellation = CURRENT.get();
+        if (cancellation == null) {
+            return;
+        }
+        // 끝난(닫힌) Statement는 더 이상 취소할 필요가 없으므로 정리합니다.
+        cancellation.statements.removeIf(QueryCancellation::isClosed);
+        cancellation.statements.add(statement);
+        if (cancellation.cancelled) {
+            cancellation.statements.remove(statement);
+            throw new QueryCancelledException("Query cancelled: the client disconnected.");
+        }
+    }
+
+    private static boolean isClosed(Statement statement) {
+        try {
+            return statement.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.kydbm.monarch.service;
+
+/**
+ * 클라이언트 연결이 끊겨 실행 중인 쿼리를 취소했을 때 발생하는 예외.
+ * 응답을 받을 클라이언트가 없으므로 별도의 상태 코드를 지정하지 않습니다.
+ */
+public class QueryCancelledException extends RuntimeException {
+
+    public QueryCancelledException(String message) {
+        super(message);
+    }
+
+    public QueryCancelledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
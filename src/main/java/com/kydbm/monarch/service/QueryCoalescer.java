@@ -0,0 +1,116 @@
+package com.kydbm.monarch.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 조회 요청의 동시 실행을 하나로 합칩니다. (single-flight)
+ * 같은 `QueryKey`의 조회가 이미 실행 중이면 새로 DB에 보내지 않고, 실행 중인 조회가 끝나기를 기다려 같은 결과를 받습니다.
+ * 출근 시간대처럼 같은 대시보드 조회가 한꺼번에 몰릴 때 DB 커넥션 풀이 포화되는 것을 막습니다.
+ * 병합된 호출 수는 `monarch.query.coalesced` 지표로 노출됩니다.
+ * <p>
+ * 병합된 호출은 모두 같은 결과 객체를 받으므로, 호출자는 결과를 수정하지 않아야 합니다.
+ * 먼저 실행한 요청이 클라이언트 연결 종료로 취소되면, 기다리던 호출 중 하나가 다시 실행합니다.
+ * 기다리는 호출은 서비스의 제한 시간까지만 기다리며, 자신의 클라이언트가 연결을 끊으면(`QueryCancellation`) 바로 기다리기를 멈춥니다.
+ */
+@Component
+public class QueryCoalescer {
+
+    /** 기다리는 동안 자신의 취소 여부를 확인하는 간격 */
+    private static final long CANCEL_CHECK_INTERVAL_MS = 100;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<QueryKey, CompletableFuture<List<Map<String, Object>>>> inFlight = new ConcurrentHashMap<>();
+
+    public QueryCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 같은 키의 조회가 실행 중이면 그 결과를 기다리고, 없으면 직접 실행합니다.
+     * @param key 조회 키
+     * @param timeout 실행 중인 조회를 기다리는 최대 시간 (서비스의 제한 시간)
+     * @param loader 실제 조회
+     * @return 조회 결과
+     * @throws QueryTimedOutException 실행 중인 조회가 제한 시간 안에 끝나지 않은 경우
+     * @throws QueryCancelledException 기다리는 동안 이 요청의 클라이언트가 연결을 끊은 경우
+     */
+    public List<Map<String, Object>> execute(QueryKey key, Duration timeout, Supplier<List<Map<String, Object>>> loader) {
+        CompletableFuture<List<Map<String, Object>>> future = new CompletableFuture<>();
+        CompletableFuture<List<Map<String, Object>>> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            Counter.builder("monarch.query.coalesced")
+                    .description("Dynamic query calls that shared an in-flight execution")
+                    .tag("service", key.serviceName())
+                    .tag("method", key.methodName())
+                    .register(meterRegistry)
+                    .increment();
+            try {
+                return await(key, running, timeout);
+            } catch (ExecutionException e) {
+                // 먼저 실행한 요청의 클라이언트가 연결을 끊어 조회가 취소된 경우, 기다리던 요청은 직접 다시 실행합니다.
+                if (e.getCause() instanceof QueryCancelledException) {
+                    inFlight.remove(key, running);
+                    return execute(key, timeout, loader);
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        try {
+            List<Map<String, Object>> result = loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 실행 중인 조회의 결과를 제한 시간까지 기다립니다.
+     * 현재 스레드의 취소 범위가 취소되면(클라이언트 연결 종료) 결과를 기다리지 않고 중단합니다. (실행 중인 조회는 계속됩니다.)
+     */
+    private static List<Map<String, Object>> await(QueryKey key, CompletableFuture<List<Map<String, Object>>> running,
+                                                   Duration timeout) throws ExecutionException {
+        QueryCancellation cancellation = QueryCancellation.current();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            if (cancellation != null && cancellation.isCancelled()) {
+                throw new QueryCancelledException("Query cancelled: the client disconnected.");
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                throw new QueryTimedOutException("Query timed out after " + timeout.toSeconds()
+                        + " seconds waiting for an identical running query: " + key.serviceName() + ", " + key.methodName(), null);
+            }
+            try {
+                return running.get(Math.min(remainingNanos, TimeUnit.MILLISECONDS.toNanos(CANCEL_CHECK_INTERVAL_MS)), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // 제한 시간과 취소 여부를 다시 확인합니다.
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new QueryCancelledException("Query cancelled: the waiting thread was interrupted.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.kydbm.monarch.service;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 동일한 조회 요청을 식별하는 키. 결과 캐시와 동시 요청 병합(single-flight)에 사용합니다.
+ * 회원사/서비스/메소드와 렌더링된 SQL, 바인딩 값, 페이징·응답 형식 파라미터(`_`로 시작하는 요청 파라미터)로 구성됩니다.
+ * @param mUsiteNo 회원사 번호
+ * @param serviceName 서비스 이름
+ * @param methodName 메소드 이름
+ * @param sql 렌더링된 SQL (페이징 적용 전)
+ * @param values 이름순으로 정렬된 바인딩 값과 `_` 파라미터
+ */
+public record QueryKey(Long mUsiteNo, String serviceName, String methodName, String sql, Map<String, Object> values) {
+
+    /**
+     * 요청의 키를 만듭니다. 페이징 바인드 변수가 추가되기 전에 호출해야 합니다.
+     * @param service 서비스 정의
+     * @param sql 렌더링된 SQL
+     * @param parameters 바인딩 파라미터
+     * @param queryParams 요청 파라미터
+     */
+    public static QueryKey of(ServiceDefinition service, String sql, MapSqlParameterSource parameters, Map<String, Object> queryParams) {
+        Map<String, Object> values = new TreeMap<>();
+        parameters.getValues().forEach((name, value) -> values.put(name, normalize(value)));
+        queryParams.forEach((name, value) -> {
+            if (name.startsWith("_")) {
+                values.put(name, value == null ? null : value.toString());
+            }
+        });
+        return new QueryKey(service.getMUsiteNo(), service.getServiceName(), service.getMethodName(), sql,
+                Collections.unmodifiableMap(values));
+    }
+
+    /** 같은 값이 표현만 달라 다른 키가 되지 않도록 숫자의 소수점 이하 0을 제거합니다. (1.0 -> 1) */
+    private static Object normalize(Object value) {
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = ((BigDecimal) value).stripTrailingZeros();
+            return decimal.scale() < 0 ? decimal.setScale(0) : decimal;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,126 @@
+package com.kydbm.monarch.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동적 쿼리 실행을 Micrometer 지표로 기록합니다. (/actuator/prometheus, /actuator/metrics)
+ * <ul>
+ *   <li>`monarch.query.execution`: 실행 전체 시간 (tenant, service, method, exec_type, outcome)</li>
+ *   <li>`monarch.query.phase`: 단계별 시간 (service, method, phase=metadata|render|query|page|count|serialization)</li>
+ *   <li>`monarch.query.rows`: 결과 행 수 (service, method)</li>
+ *   <li>`monarch.query.payload.bytes`: 응답 JSON 크기 (service, method)</li>
+ * </ul>
+ * 백분위 히스토그램은 `management.metrics.distribution.percentiles-histogram.*` 설정으로 켭니다.
+ */
+@Component
+public class QueryMetrics {
+
+    /** 태그 값이 없을 때 사용하는 값 (Micrometer 태그는 null을 허용하지 않습니다.) */
+    private static final String NONE = "none";
+    /**
+     * 서비스를 찾지 못한 실행의 service/method 태그 값.
+     * 요청 파라미터를 그대로 태그로 쓰면 임의의 이름마다 지표가 새로 생기므로, 등록된 서비스 이름만 태그로 사용합니다.
+     */
+    static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    public QueryMetrics(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 끝난 실행의 전체 시간, 단계별 시간, 결과 행 수를 기록합니다.
+     * @param trace 실행 추적 정보
+     * @param mUsiteNo 회원사 번호
+     * @param success 정상 완료 여부
+     */
+    void record(QueryTrace trace, Long mUsiteNo, boolean success) {
+        ServiceDefinition service = trace.service();
+        String serviceTag = serviceTag(service);
+        String methodTag = methodTag(service);
+
+        Timer.builder("monarch.query.execution")
+                .description("Dynamic query executions")
+                .tag("tenant", tag(mUsiteNo))
+                .tag("service", serviceTag)
+                .tag("method", methodTag)
+                .tag("exec_type", tag(service != null ? service.getExecType() : null))
+                .tag("outcome", success ? "success" : "error")
+                .register(meterRegistry)
+                .record(trace.elapsedNanos(), TimeUnit.NANOSECONDS);
+
+        for (QueryTrace.Phase phase : QueryTrace.Phase.values()) {
+            long nanos = trace.phaseNanos(phase);
+            if (nanos > 0) {
+                phaseTimer(serviceTag, methodTag, phase).record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (trace.rows() >= 0) {
+            DistributionSummary.builder("monarch.query.rows")
+                    .description("Rows returned by dynamic query executions")
+                    .tag("service", serviceTag)
+                    .tag("method", methodTag)
+                    .register(meterRegistry)
+                    .record(trace.rows());
+        }
+    }
+
+    /**
+     * 응답 본문을 JSON으로 직렬화하고, 직렬화 시간과 크기를 서비스별로 기록합니다.
+     * @param service 요청한 서비스의 정의 (찾지 못했거나 M_SERVICE에 없는 요청이면 null)
+     * @param body 응답 본문
+     * @return JSON (UTF-8)
+     */
+    public byte[] serialize(ServiceDefinition service, Object body) {
+        long start = System.nanoTime();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize response: " + e.getMessage(), e);
+        }
+        String serviceTag = serviceTag(service);
+        String methodTag = methodTag(service);
+        phaseTimer(serviceTag, methodTag, QueryTrace.Phase.SERIALIZATION)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("monarch.query.payload.bytes")
+                .description("Serialized response size of dynamic query executions")
+                .baseUnit("bytes")
+                .tag("service", serviceTag)
+                .tag("method", methodTag)
+                .register(meterRegistry)
+                .record(json.length);
+        return json;
+    }
+
+    private Timer phaseTimer(String service, String method, QueryTrace.Phase phase) {
+        return Timer.builder("monarch.query.phase")
+                .description("Time spent in each phase of dynamic query executions")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("phase", phase.tag())
+                .register(meterRegistry);
+    }
+
+    private static String serviceTag(ServiceDefinition service) {
+        return service != null ? tag(service.getServiceName()) : UNKNOWN;
+    }
+
+    private static String methodTag(ServiceDefinition service) {
+        return service != null ? tag(service.getMethodName()) : UNKNOWN;
+    }
+
+    private static String tag(Object value) {
+        return value == null ? NONE : value.toString();
+    }
+}
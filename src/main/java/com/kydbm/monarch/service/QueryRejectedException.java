@@ -0,0 +1,16 @@
+package com.kydbm.monarch.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * DB가 과부하 상태여서 쿼리를 실행하지 않고 거절했을 때 발생하는 예외.
+ * 클라이언트에는 503(Service Unavailable)으로 응답되며, 잠시 후 다시 시도할 수 있습니다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class QueryRejectedException extends RuntimeException {
+
+    public QueryRejectedException(String message) {
+        super(message);
+    }
+}
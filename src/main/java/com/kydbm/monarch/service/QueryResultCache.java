@@ -0,0 +1,202 @@
+package com.kydbm.monarch.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * READ/LIST 서비스의 조회 결과 캐시.
+ * M_SERVICE.CACHE_TTL이 지정된 서비스만 대상이며, 키는 `QueryKey`(회원사/서비스/메소드, SQL, 바인딩 값)입니다.
+ * <p>
+ * 캐시 전체 크기는 결과의 추정 바이트 수로 제한되며, 같은 TABLE_NAME의 INSERT/UPDATE/DELETE 서비스가 실행되면
+ * 해당 테이블의 항목을 모두 무효화합니다. 서비스별 적중/실패/제거 건수는 `monarch.result-cache.*` 지표로 노출됩니다.
+ */
+@Component
+public class QueryResultCache {
+
+    private final MeterRegistry meterRegistry;
+    private final Cache<QueryKey, Entry> cache;
+    /** 테이블별 변경 버전. 조회 중에 테이블이 변경되었다면 그 결과는 캐시하지 않습니다. */
+    private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+
+    public QueryResultCache(MeterRegistry meterRegistry,
+                            @Value("${monarch.result-cache.max-bytes:67108864}") long maxBytes) {
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((QueryKey key, Entry entry) -> entry.weight())
+                .expireAfter(new Expiry<QueryKey, Entry>() {
+                    @Override
+                    public long expireAfterCreate(QueryKey key, Entry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(QueryKey key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(QueryKey key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .removalListener((QueryKey key, Entry entry, RemovalCause cause) -> {
+                    if (key != null && cause.wasEvicted()) {
+                        counter("monarch.result-cache.evictions", key, null).increment();
+                    }
+                })
+                .build();
+    }
+
+    /** 결과 캐시 대상 서비스인지 여부 (CACHE_TTL이 지정된 READ/LIST 서비스) */
+    public boolean isCacheable(ServiceDefinition service) {
+        return service.getCacheTtlSeconds() > 0 && isReadType(service.getExecType());
+    }
+
+    /**
+     * 캐시된 결과를 조회합니다.
+     * @return 캐시된 결과 (없으면 null)
+     */
+    public List<Map<String, Object>> get(QueryKey key) {
+        Entry entry = cache.getIfPresent(key);
+        counter("monarch.result-cache.requests", key, entry != null ? "hit" : "miss").increment();
+        return entry != null ? entry.result() : null;
+    }
+
+    /**
+     * 조회 직전에 테이블 변경 버전을 읽어 둡니다. `put`에 전달합니다.
+     * @param tableName 서비스의 TABLE_NAME
+     */
+    public long tableVersion(String tableName) {
+        String table = upper(tableName);
+        return table == null ? 0L : versionOf(table).get();
+    }
+
+    /**
+     * 결과를 캐시에 저장합니다. 추정 크기가 서비스의 CACHE_MAX_BYTES를 넘거나,
+     * 조회하는 동안 테이블이 변경되었다면 저장하지 않습니다.
+     * @param service 서비스 정의 (TTL, 최대 크기, 테이블명)
+     * @param tableVersion 조회 직전에 `tableVersion`으로 읽은 값
+     */
+    public void put(ServiceDefinition service, QueryKey key, List<Map<String, Object>> result, long tableVersion) {
+        long weight = estimateBytes(result);
+        if (weight > service.getCacheMaxBytes() || weight > Integer.MAX_VALUE) {
+            return;
+        }
+        cache.put(key, new Entry(result, upper(service.getTableName()), (int) weight,
+                TimeUnit.SECONDS.toNanos(service.getCacheTtlSeconds())));
+        // 저장하는 사이에 무효화가 일어났다면 방금 넣은 항목을 제거합니다.
+        if (tableVersion(service.getTableName()) != tableVersion) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * 테이블의 캐시 항목을 모두 무효화합니다. 트랜잭션 안에서 호출되면 커밋 후에 한 번 더 무효화하여,
+     * 커밋 전의 데이터가 그 사이에 다시 캐시되지 않도록 합니다.
+     * @param tableName M_SERVICE.TABLE_NAME (null이면 아무것도 하지 않음)
+     */
+    public void invalidateTable(String tableName) {
+        String table = upper(tableName);
+        if (table == null) {
+            return;
+        }
+        invalidateNow(table);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidateNow(table);
+                }
+            });
+        }
+    }
+
+    /** 캐시 전체를 비웁니다. */
+    public void invalidateAll() {
+        tableVersions.values().forEach(AtomicLong::incrementAndGet);
+        cache.invalidateAll();
+    }
+
+    /** 현재 캐시 항목 수와 추정 크기 (관리용) */
+    public Map<String, Long> sizes() {
+        long bytes = cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+        return Map.of("entries", cache.estimatedSize(), "bytes", bytes);
+    }
+
+    private void invalidateNow(String table) {
+        versionOf(table).incrementAndGet();
+        cache.asMap().values().removeIf(entry -> table.equals(entry.tableName()));
+    }
+
+    private AtomicLong versionOf(String table) {
+        return tableVersions.computeIfAbsent(table, t -> new AtomicLong());
+    }
+
+    private Counter counter(String name, QueryKey key, String result) {
+        Counter.Builder builder = Counter.builder(name)
+                .tag("service", key.serviceName())
+                .tag("method", key.methodName());
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    static boolean isReadType(String execType) {
+        return "READ".equalsIgnoreCase(execType) || "LIST".equalsIgnoreCase(execType);
+    }
+
+    private static String upper(String tableName) {
+        return tableName == null || tableName.trim().isEmpty() ? null : tableName.trim().toUpperCase();
+    }
+
+    /** 결과가 차지하는 힙 크기를 대략적으로 추정합니다. (객체 헤더와 참조 포함) */
+    static long estimateBytes(Object value) {
+        if (value == null) {
+            return 8;
+        } else if (value instanceof String) {
+            return 48 + 2L * ((String) value).length();
+        } else if (value instanceof Map) {
+            long size = 64;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += 32 + estimateBytes(entry.getKey()) + estimateBytes(entry.getValue());
+            }
+            return size;
+        } else if (value instanceof Collection) {
+            long size = 32;
+            for (Object item : (Collection<?>) value) {
+                size += 8 + estimateBytes(item);
+            }
+            return size;
+        } else if (value instanceof Object[]) {
+            long size = 16;
+            for (Object item : (Object[]) value) {
+                size += 8 + estimateBytes(item);
+            }
+            return size;
+        } else if (value instanceof BigDecimal) {
+            return 64;
+        }
+        return 32;
+    }
+
+    private record Entry(List<Map<String, Object>> result, String tableName, int weight, long ttlNanos) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.kydbm.monarch.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 회원사 또는 서비스의 동시 실행 한도를 넘어 쿼리를 거절했을 때 발생하는 예외.
+ * 클라이언트에는 429(Too Many Requests)로 응답되며, 잠시 후 다시 시도할 수 있습니다.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class QueryThrottledException extends RuntimeException {
+
+    public QueryThrottledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.kydbm.monarch.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 쿼리가 서비스의 제한 시간(M_SERVICE.QUERY_TIMEOUT 또는 `monarch.query.timeout-seconds`)을 넘겨 중단되었을 때 발생하는 예외.
+ * 클라이언트에는 504(Gateway Timeout)로 응답됩니다.
+ */
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class QueryTimedOutException extends RuntimeException {
+
+    public QueryTimedOutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
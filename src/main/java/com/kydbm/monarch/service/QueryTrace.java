@@ -0,0 +1,135 @@
+package com.kydbm.monarch.service;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 동적 쿼리 실행 한 건의 SQL, 단계별 소요 시간, 결과 행 수를 모으는 추적 정보.
+ * 실행하는 스레드에 묶여 있어, 실행 경로 곳곳에서 `time`으로 감싼 단계의 시간이 현재 실행에 누적됩니다.
+ * (추적 중이 아니면 작업만 실행합니다.) 실행이 끝나면 `QueryMetrics`가 지표로, `SlowQueryLog`가 느린 실행으로 기록합니다.
+ */
+final class QueryTrace {
+
+    /** 실행 단계 (지표의 phase 태그) */
+    enum Phase {
+        METADATA("metadata"),
+        RENDER("render"),
+        QUERY("query"),
+        PAGE("page"),
+        COUNT("count"),
+        SERIALIZATION("serialization");
+
+        private final String tag;
+
+        Phase(String tag) {
+            this.tag = tag;
+        }
+
+        String tag() {
+            return tag;
+        }
+    }
+
+    private static final ThreadLocal<QueryTrace> CURRENT = new ThreadLocal<>();
+
+    /** 중첩 실행 시 바깥 실행의 추적 정보 */
+    private final QueryTrace previous;
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private long elapsedNanos = -1;
+    private ServiceDefinition service;
+    private String sql;
+    private MapSqlParameterSource parameters;
+    private int rows = -1;
+
+    private QueryTrace(QueryTrace previous) {
+        this.previous = previous;
+    }
+
+    /** 현재 스레드에서 새 실행의 추적을 시작합니다. */
+    static QueryTrace start() {
+        QueryTrace trace = new QueryTrace(CURRENT.get());
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /** 추적을 끝내고(전체 소요 시간 확정), 바깥 실행이 있으면 그 추적으로 되돌립니다. */
+    void close() {
+        elapsedNanos = System.nanoTime() - startNanos;
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /** 작업을 실행하고 소요 시간을 현재 실행의 단계에 누적합니다. */
+    static <T> T time(Phase phase, Supplier<T> action) {
+        QueryTrace trace = CURRENT.get();
+        if (trace == null) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            trace.phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    /** 현재 실행의 서비스 정의를 기록합니다. (지표 태그용) */
+    static void service(ServiceDefinition service) {
+        QueryTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.service = service;
+        }
+    }
+
+    /** 현재 실행의 렌더링된 SQL과 바인딩 파라미터를 기록합니다. */
+    static void statement(String sql, MapSqlParameterSource parameters) {
+        QueryTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.sql = sql;
+            trace.parameters = parameters;
+        }
+    }
+
+    /** 현재 실행의 결과 행 수를 기록합니다. */
+    static void rows(int rows) {
+        QueryTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.rows = rows;
+        }
+    }
+
+    /** 전체 소요 시간. 끝나기 전이면 지금까지의 시간을 반환합니다. */
+    long elapsedNanos() {
+        return elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startNanos;
+    }
+
+    long phaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /** 서비스 정의. 서비스를 찾기 전에 실패했으면 null입니다. */
+    ServiceDefinition service() {
+        return service;
+    }
+
+    /** 렌더링된 SQL (페이징 적용 전). 렌더링 전에 실패했으면 null입니다. */
+    String sql() {
+        return sql;
+    }
+
+    /** 바인딩 파라미터 값. 렌더링 전에 실패했으면 null입니다. */
+    Map<String, Object> parameters() {
+        return parameters == null ? null : parameters.getValues();
+    }
+
+    /** 결과 행 수. 기록되지 않았으면 -1입니다. */
+    int rows() {
+        return rows;
+    }
+}
@@ -0,0 +1,154 @@
+package com.kydbm.monarch.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 동적 그리드 화면을 여는 데 필요한 데이터(화면 구성, 첫 페이지 조회 결과, 필터의 공통 코드)를 한 번에 만드는 서비스.
+ * 클라이언트가 구성 조회 → 데이터 조회 → 공통 코드 조회를 차례로 요청하던 왕복을 한 번으로 줄입니다.
+ * 화면 구성을 해석한 뒤 첫 페이지 조회는 `ParallelQueryExecutor`에서 실행하고, 그동안 공통 코드를 사전(`CommCodeDictionary`)에서 채웁니다.
+ */
+@Service
+public class ScreenBundleService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScreenBundleService.class);
+
+    private final DynamicGridStructure dynamicGridStructure;
+    private final DynamicQueryService dynamicQueryService;
+    private final MCommCodeService mCommCodeService;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final ObjectMapper objectMapper;
+    /** 요청과 화면 구성에 페이지 크기가 없을 때의 첫 페이지 크기 */
+    private final int defaultPageSize;
+
+    public ScreenBundleService(DynamicGridStructure dynamicGridStructure, DynamicQueryService dynamicQueryService,
+                               MCommCodeService mCommCodeService, ParallelQueryExecutor parallelQueryExecutor,
+                               ObjectMapper objectMapper, @Value("${monarch.screen.default-page-size:10}") int defaultPageSize) {
+        this.dynamicGridStructure = dynamicGridStructure;
+        this.dynamicQueryService = dynamicQueryService;
+        this.mCommCodeService = mCommCodeService;
+        this.parallelQueryExecutor = parallelQueryExecutor;
+        this.objectMapper = objectMapper;
+        this.defaultPageSize = defaultPageSize;
+    }
+
+    /**
+     * 화면 묶음을 만듭니다.
+     * <ul>
+     *   <li>structureCont: 화면 구성 (`/data/execute`의 M_STRUCTURE 조회와 같은 값, 없으면 null)</li>
+     *   <li>firstPage: 구성의 service/method로 조회한 첫 페이지 (`/data/execute` 응답과 같은 형식)</li>
+     *   <li>commCodes: 필터(select)가 참조하는 코드 그룹별 공통 코드</li>
+     *   <li>pageSize: 첫 페이지 조회에 사용한 페이지 크기</li>
+     * </ul>
+     * 화면 구성이 표준 JSON이 아니면(함수 포함 등) 서버에서 해석할 수 없으므로 structureCont만 반환합니다.
+     * @param structureName 화면 구성 이름
+     * @param mUsiteNo 회원사 번호
+     * @param requestParams 첫 페이지 조회에 함께 전달할 파라미터 (필터 초기값, _size, _sort 등)
+     * @return 화면 묶음
+     */
+    public Map<String, Object> getBundle(String structureName, Long mUsiteNo, Map<String, String> requestParams) {
+        Map<String, Object> bundle = new LinkedHashMap<>();
+        String content = dynamicGridStructure.getStructureByName(structureName, mUsiteNo);
+        bundle.put("structureCont", content);
+        if (content == null) {
+            return bundle;
+        }
+
+        JsonNode config;
+        try {
+            config = objectMapper.readTree(content);
+        } catch (JsonProcessingException e) {
+            log.debug("Structure '{}' is not plain JSON; returning the structure only", structureName);
+            return bundle;
+        }
+        String serviceName = config.path("service").asText(null);
+        String methodName = config.path("method").asText(null);
+        int pageSize = parsePageSize(requestParams.get("_size"), config.path("pageSize").asInt(defaultPageSize));
+        Set<String> codeGroups = findCodeGroups(config.path("filterView"));
+
+        CompletableFuture<List<Map<String, Object>>> firstPage = null;
+        if (serviceName != null && methodName != null) {
+            Map<String, Object> queryParams = new HashMap<>(requestParams);
+            queryParams.remove("structureName");
+            queryParams.put("_page", "1");
+            queryParams.put("_size", String.valueOf(pageSize));
+            queryParams.putIfAbsent("_sort", config.path("order").asText(""));
+            queryParams.put("USITE", mUsiteNo);
+            firstPage = parallelQueryExecutor.submit(
+                    () -> dynamicQueryService.executeDynamicQuery(serviceName, methodName, mUsiteNo, queryParams));
+        }
+        // 공통 코드는 메모리의 사전에서 바로 가져오므로, 첫 페이지 조회를 기다리는 동안 채웁니다.
+        bundle.put("commCodes", mCommCodeService.getCommCodes(codeGroups, mUsiteNo));
+        bundle.put("firstPage", firstPage == null ? null : join(firstPage));
+        bundle.put("pageSize", pageSize);
+        return bundle;
+    }
+
+    /** 병렬 작업의 결과를 기다립니다. 작업에서 발생한 예외는 감싸지 않고 그대로 던집니다. */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private int parsePageSize(String requested, int configured) {
+        if (requested != null && !requested.isBlank()) {
+            try {
+                int size = Integer.parseInt(requested.trim());
+                if (size > 0) {
+                    return size;
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid _size: " + requested);
+            }
+        }
+        return configured > 0 ? configured : defaultPageSize;
+    }
+
+    /**
+     * filterView에서 select 필터가 참조하는 코드 그룹을 찾습니다.
+     * filterView의 항목은 필터 하나이거나 `{"TD": [필터, ...]}` 형태의 행입니다.
+     */
+    private static Set<String> findCodeGroups(JsonNode filterView) {
+        Set<String> codeGroups = new LinkedHashSet<>();
+        if (!filterView.isArray()) {
+            return codeGroups;
+        }
+        List<JsonNode> items = new ArrayList<>();
+        for (JsonNode rowOrItem : filterView) {
+            JsonNode cells = rowOrItem.path("TD");
+            if (cells.isArray()) {
+                cells.forEach(items::add);
+            } else {
+                items.add(rowOrItem);
+            }
+        }
+        for (JsonNode item : items) {
+            String codeGroup = item.path("codeGroup").asText("");
+            if ("select".equalsIgnoreCase(item.path("type").asText("")) && !codeGroup.isBlank()) {
+                codeGroups.add(codeGroup);
+            }
+        }
+        return codeGroups;
+    }
+}
@@ -0,0 +1,131 @@
+package com.kydbm.monarch.service;
+
+import com.kydbm.monarch.mapper.ClobTextTypeHandler;
+
+import java.sql.Clob;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 캐시에 보관되는 M_SERVICE 한 건의 불변 스냅샷.
+ * 조회 시점의 행(Map)과 함께, 쿼리문을 미리 컴파일한 `SqlTemplate`을 보관하여
+ * 요청마다 CLOB 변환이나 쿼리문 파싱이 일어나지 않도록 합니다.
+ */
+public final class ServiceDefinition {
+
+    /** CACHE_MAX_BYTES가 비어 있을 때의 결과 캐시 항목 최대 크기 (1MB) */
+    private static final long DEFAULT_CACHE_MAX_BYTES = 1024 * 1024;
+
+    private final Map<String, Object> row;
+    private final String serviceName;
+    private final String methodName;
+    private final Long mUsiteNo;
+    private final String execType;
+    private final String queryStmt;
+    private final String tableName;
+    private final String dsName;
+    private final SqlTemplate template;
+    private final KeysetKey keysetKey;
+    private final ParamSchema paramSchema;
+    private final long cacheTtlSeconds;
+    private final long cacheMaxBytes;
+    private final int queryTimeoutSeconds;
+
+    /**
+     * `MServiceMapper.findServiceQuery` 조회 결과로 정의를 생성합니다.
+     * @param row M_SERVICE 조회 결과 행
+     * @param mUsiteNo 회원사 번호
+     * @param serviceName 서비스 이름
+     * @param methodName 메소드 이름
+     */
+    public ServiceDefinition(Map<String, Object> row, Long mUsiteNo, String serviceName, String methodName) {
+        this.row = Collections.unmodifiableMap(row);
+        this.mUsiteNo = mUsiteNo;
+        this.serviceName = serviceName;
+        this.methodName = methodName;
+        this.execType = (String) row.get("EXEC_TYPE");
+        this.queryStmt = readText(row.get("QUERY_STMT"));
+        this.tableName = (String) row.get("TABLE_NAME");
+        this.dsName = (String) row.get("DS_NAME");
+        this.template = (queryStmt == null || queryStmt.trim().isEmpty()) ? null : SqlTemplate.compile(queryStmt);
+        this.keysetKey = KeysetKey.parse((String) row.get("KEYSET_KEY"));
+        this.paramSchema = ParamSchema.parse((String) row.get("PARAM_SCHEMA"));
+        this.cacheTtlSeconds = row.get("CACHE_TTL") == null ? 0L : ((Number) row.get("CACHE_TTL")).longValue();
+        this.cacheMaxBytes = row.get("CACHE_MAX_BYTES") == null ? DEFAULT_CACHE_MAX_BYTES : ((Number) row.get("CACHE_MAX_BYTES")).longValue();
+        this.queryTimeoutSeconds = row.get("QUERY_TIMEOUT") == null ? 0 : ((Number) row.get("QUERY_TIMEOUT")).intValue();
+    }
+
+    /** CLOB/NCLOB 타입을 String으로 변환 (매퍼의 `ClobTextTypeHandler`를 거치지 않은 값 대비) */
+    static String readText(Object value) {
+        if (value instanceof Clob clob) {
+            try {
+                return ClobTextTypeHandler.read(clob);
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to read CLOB data", e);
+            }
+        }
+        return (String) value;
+    }
+
+    public Map<String, Object> getRow() {
+        return row;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public Long getMUsiteNo() {
+        return mUsiteNo;
+    }
+
+    public String getExecType() {
+        return execType;
+    }
+
+    public String getQueryStmt() {
+        return queryStmt;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getDsName() {
+        return dsName;
+    }
+
+    /** 컴파일된 쿼리 템플릿. 쿼리문이 비어 있으면 null을 반환합니다. */
+    public SqlTemplate getTemplate() {
+        return template;
+    }
+
+    /** 키셋 페이징 정렬 키. 선언되지 않았으면 null을 반환합니다. */
+    public KeysetKey getKeysetKey() {
+        return keysetKey;
+    }
+
+    /** 파라미터 스키마. 선언되지 않았으면 빈 스키마를 반환합니다. */
+    public ParamSchema getParamSchema() {
+        return paramSchema;
+    }
+
+    /** 결과 캐시 유지 시간(초). 0이면 캐시하지 않습니다. */
+    public long getCacheTtlSeconds() {
+        return cacheTtlSeconds;
+    }
+
+    /** 결과 캐시 항목의 최대 크기(바이트) */
+    public long getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
+    /** 쿼리 제한 시간(초). 0이면 전역 기본값을 사용합니다. */
+    public int getQueryTimeoutSeconds() {
+        return queryTimeoutSeconds;
+    }
+}
@@ -0,0 +1,215 @@
+package com.kydbm.monarch.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kydbm.monarch.mapper.MServiceMapper;
+import com.kydbm.monarch.mapper.MStructureMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * M_SERVICE / M_STRUCTURE 메타데이터를 메모리에 보관하는 캐시 서비스.
+ * 메타데이터는 관리자 화면에서 수정될 때만 바뀌므로, 매 요청마다 DB를 조회하지 않고 캐시된 값을 사용합니다.
+ * <p>
+ * 캐시 크기는 건수 기준으로 제한되며(초과 시 오래 사용되지 않은 항목부터 제거),
+ * 백그라운드 폴러가 주기적으로 UPD_DATE를 비교하여 변경된 항목만 무효화합니다.
+ * 존재하지 않는 서비스/화면 구성도 짧은 시간(miss-ttl-ms) 동안 "없음"으로 캐시하여, 잘못된 이름으로 반복 요청해도 DB를 조회하지 않습니다.
+ * (행이 추가되면 행 수가 바뀌므로 폴러가 전체를 무효화합니다.)
+ */
+@Service
+public class ServiceMetadataCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceMetadataCache.class);
+
+    private final MServiceMapper mServiceMapper;
+    private final MStructureMapper mStructureMapper;
+    private final Cache<ServiceKey, Optional<ServiceDefinition>> services;
+    private final ObjectMapper objectMapper;
+    private final Cache<StructureKey, Optional<StructureDefinition>> structures;
+
+    /** 마지막 폴링 시점의 테이블 상태 (최초 폴링 전에는 null) */
+    private volatile ChangeMarker serviceMarker;
+    private volatile ChangeMarker structureMarker;
+
+    public ServiceMetadataCache(MServiceMapper mServiceMapper, MStructureMapper mStructureMapper, ObjectMapper objectMapper,
+                                @Value("${monarch.meta-cache.max-services:2000}") long maxServices,
+                                @Value("${monarch.meta-cache.max-structures:500}") long maxStructures,
+                                @Value("${monarch.meta-cache.miss-ttl-ms:30000}") long missTtlMs) {
+        this.mServiceMapper = mServiceMapper;
+        this.mStructureMapper = mStructureMapper;
+        this.objectMapper = objectMapper;
+        this.services = Caffeine.newBuilder().maximumSize(maxServices).expireAfter(new MissExpiry<ServiceKey, ServiceDefinition>(missTtlMs)).build();
+        this.structures = Caffeine.newBuilder().maximumSize(maxStructures).expireAfter(new MissExpiry<StructureKey, StructureDefinition>(missTtlMs)).build();
+    }
+
+    /**
+     * 서비스 정의를 조회합니다. 캐시에 없으면 DB에서 읽어 캐시에 저장합니다.
+     * @param mUsiteNo 회원사 번호
+     * @param serviceName 서비스 이름
+     * @param methodName 메소드 이름
+     * @return 서비스 정의 (존재하지 않으면 null, 이 경우 miss-ttl-ms 동안 "없음"으로 캐시)
+     */
+    public ServiceDefinition getService(Long mUsiteNo, String serviceName, String methodName) {
+        return services.get(new ServiceKey(mUsiteNo, serviceName, methodName), key -> {
+            Map<String, Object> row = mServiceMapper.findServiceQuery(key.mUsiteNo(), key.serviceName(), key.methodName());
+            return Optional.ofNullable(row).map(found -> new ServiceDefinition(found, key.mUsiteNo(), key.serviceName(), key.methodName()));
+        }).orElse(null);
+    }
+
+    /**
+     * 화면 구성 정의를 조회합니다. 캐시에 없으면 DB에서 읽어 정리한 뒤 캐시에 저장합니다.
+     * @param structureName 화면 구성 이름
+     * @param mUsiteNo 회원사 번호
+     * @return 화면 구성 정의 (존재하지 않으면 null, 이 경우 miss-ttl-ms 동안 "없음"으로 캐시)
+     */
+    public StructureDefinition getStructure(String structureName, Long mUsiteNo) {
+        return structures.get(new StructureKey(mUsiteNo, structureName), key -> {
+            String raw = mStructureMapper.findByName(key.structureName(), key.mUsiteNo());
+            return Optional.ofNullable(raw).map(found -> new StructureDefinition(key.structureName(), key.mUsiteNo(), found, objectMapper));
+        }).orElse(null);
+    }
+
+    /**
+     * 캐시 항목을 명시적으로 제거합니다. null인 조건은 와일드카드로 취급합니다.
+     * 관리자가 메타데이터를 수정한 직후 폴링 주기를 기다리지 않고 반영할 때 사용합니다.
+     * @return 제거된 항목 수
+     */
+    public int evictServices(Long mUsiteNo, String serviceName, String methodName) {
+        int before = (int) services.estimatedSize();
+        services.asMap().keySet().removeIf(key ->
+                (mUsiteNo == null || mUsiteNo.equals(key.mUsiteNo()))
+                        && (serviceName == null || serviceName.equals(key.serviceName()))
+                        && (methodName == null || methodName.equals(key.methodName())));
+        return before - (int) services.estimatedSize();
+    }
+
+    /** @see #evictServices(Long, String, String) */
+    public int evictStructures(Long mUsiteNo, String structureName) {
+        int before = (int) structures.estimatedSize();
+        structures.asMap().keySet().removeIf(key ->
+                (mUsiteNo == null || mUsiteNo.equals(key.mUsiteNo()))
+                        && (structureName == null || structureName.equals(key.structureName())));
+        return before - (int) structures.estimatedSize();
+    }
+
+    /** 모든 캐시 항목을 제거합니다. */
+    public void evictAll() {
+        services.invalidateAll();
+        structures.invalidateAll();
+    }
+
+    /** 현재 캐시 항목 수 (관리용) */
+    public Map<String, Long> sizes() {
+        return Map.of("services", services.estimatedSize(), "structures", structures.estimatedSize());
+    }
+
+    /**
+     * 주기적으로 M_SERVICE / M_STRUCTURE의 UPD_DATE를 확인하여 변경된 항목을 무효화합니다.
+     * DB 오류가 발생해도 다음 주기에 다시 시도하며, 캐시는 그대로 유지됩니다.
+     */
+    @Scheduled(fixedDelayString = "${monarch.meta-cache.poll-interval-ms:30000}",
+            initialDelayString = "${monarch.meta-cache.poll-interval-ms:30000}")
+    public void pollForChanges() {
+        try {
+            serviceMarker = refresh("M_SERVICE", serviceMarker, mServiceMapper.findChangeMarker(), services::invalidateAll,
+                    since -> mServiceMapper.findKeysUpdatedSince(since).forEach(row -> services.invalidate(new ServiceKey(
+                            toLong(row.get("M_USITE_NO")), (String) row.get("SERVICE_NAME"), (String) row.get("METHOD_NAME")))));
+        } catch (Exception e) {
+            log.warn("Failed to poll M_SERVICE for changes: {}", e.getMessage());
+        }
+        try {
+            structureMarker = refresh("M_STRUCTURE", structureMarker, mStructureMapper.findChangeMarker(), structures::invalidateAll,
+                    since -> mStructureMapper.findKeysUpdatedSince(since).forEach(row -> structures.invalidate(new StructureKey(
+                            toLong(row.get("M_USITE_NO")), (String) row.get("STRUCTURE_NAME")))));
+        } catch (Exception e) {
+            log.warn("Failed to poll M_STRUCTURE for changes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이전 상태와 현재 상태를 비교하여 필요한 무효화를 수행하고, 새 상태를 반환합니다.
+     * - 최초 폴링이거나 행 수가 바뀐 경우(추가/삭제): 전체 무효화
+     * - 최종 수정일이 바뀐 경우: 이전 최종 수정일 이후 수정된 항목만 무효화
+     */
+    private ChangeMarker refresh(String table, ChangeMarker previous, Map<String, Object> row,
+                                 Runnable invalidateAll, Consumer<Timestamp> invalidateSince) {
+        ChangeMarker current = new ChangeMarker(
+                row == null ? null : toTimestamp(row.get("MAX_UPD_DATE")),
+                row == null ? 0L : toLong(row.get("CNT")));
+        if (previous == null || previous.count() != current.count() || previous.maxUpdDate() == null) {
+            invalidateAll.run();
+            if (previous != null) {
+                log.info("{} row count changed ({} -> {}). Metadata cache cleared.", table, previous.count(), current.count());
+            }
+        } else if (!Objects.equals(previous.maxUpdDate(), current.maxUpdDate())) {
+            invalidateSince.accept(previous.maxUpdDate());
+            log.info("{} changed since {}. Updated entries evicted from metadata cache.", table, previous.maxUpdDate());
+        }
+        return current;
+    }
+
+    /** Oracle DATE는 드라이버 설정에 따라 Timestamp 또는 Date로 매핑될 수 있습니다. */
+    private static Timestamp toTimestamp(Object value) {
+        if (value instanceof Timestamp) {
+            return (Timestamp) value;
+        } else if (value instanceof java.util.Date) {
+            return new Timestamp(((java.util.Date) value).getTime());
+        } else if (value instanceof java.time.LocalDateTime) {
+            return Timestamp.valueOf((java.time.LocalDateTime) value);
+        }
+        return null;
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    /**
+     * 존재하는 항목은 만료 없이(폴러가 무효화할 때까지), "없음"(Optional.empty) 항목은 missTtlMs 후에 만료시킵니다.
+     * missTtlMs가 0 이하이면 "없음"은 바로 만료되어 캐시하지 않은 것과 같습니다.
+     */
+    private static final class MissExpiry<K, V> implements Expiry<K, Optional<V>> {
+
+        private final long missTtlNanos;
+
+        MissExpiry(long missTtlMs) {
+            this.missTtlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, missTtlMs));
+        }
+
+        @Override
+        public long expireAfterCreate(K key, Optional<V> value, long currentTime) {
+            return value.isPresent() ? Long.MAX_VALUE : missTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Optional<V> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, Optional<V> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private record ServiceKey(Long mUsiteNo, String serviceName, String methodName) {
+    }
+
+    private record StructureKey(Long mUsiteNo, String structureName) {
+    }
+
+    private record ChangeMarker(Timestamp maxUpdDate, long count) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.kydbm.monarch.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 기준 시간(`monarch.slow-query.threshold-ms`)보다 오래 걸린 최근 동적 쿼리 실행을 서비스별로 보관합니다.
+ * 렌더링된 SQL, 바인딩 파라미터(값은 보관하지 않고 타입과 길이만), 단계별 시간, 결과 행 수를 기록하며,
+ * 서비스(SERVICE_NAME.METHOD_NAME)마다 고정 크기의 링 버퍼에 잠금 없이 덮어써서 메모리 사용량이 일정합니다.
+ * 관리자는 `/api/admin/slow-queries` 로 자신의 회원사 기록만 조회합니다.
+ */
+@Component
+public class SlowQueryLog {
+
+    private final long thresholdNanos;
+    private final int capacity;
+    /** 대문자 "SERVICE_NAME.METHOD_NAME" -> 링 버퍼 */
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+
+    public SlowQueryLog(@Value("${monarch.slow-query.threshold-ms:1000}") long thresholdMs,
+                        @Value("${monarch.slow-query.capacity-per-service:20}") int capacity) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * 끝난 실행이 기준 시간을 넘었으면 기록합니다.
+     * @param trace 실행 추적 정보
+     * @param mUsiteNo 회원사 번호
+     * @param success 정상 완료 여부
+     */
+    void record(QueryTrace trace, Long mUsiteNo, boolean success) {
+        ServiceDefinition service = trace.service();
+        if (thresholdNanos < 0 || trace.elapsedNanos() < thresholdNanos || service == null) {
+            return;
+        }
+        Map<String, Long> phases = new LinkedHashMap<>();
+        for (QueryTrace.Phase phase : QueryTrace.Phase.values()) {
+            if (trace.phaseNanos(phase) > 0) {
+                phases.put(phase.tag(), TimeUnit.NANOSECONDS.toMillis(trace.phaseNanos(phase)));
+            }
+        }
+        SlowQuery slowQuery = new SlowQuery(Instant.now(), mUsiteNo, service.getServiceName(), service.getMethodName(),
+                service.getExecType(), TimeUnit.NANOSECONDS.toMillis(trace.elapsedNanos()), phases, trace.rows(),
+                success, trace.sql(), mask(trace.parameters()));
+        String key = (service.getServiceName() + "." + service.getMethodName()).toUpperCase();
+        rings.computeIfAbsent(key, k -> new Ring(capacity)).add(slowQuery);
+    }
+
+    /**
+     * 보관 중인 느린 실행을 오래 걸린 순으로 반환합니다. 서비스/메소드 조건을 생략하면 해당 조건은 전체를 의미합니다.
+     * @param mUsiteNo 회원사 번호 (필수, 다른 회원사의 기록은 반환하지 않습니다.)
+     * @param serviceName 서비스 이름
+     * @param methodName 메소드 이름
+     */
+    public List<SlowQuery> snapshot(Long mUsiteNo, String serviceName, String methodName) {
+        List<SlowQuery> result = new ArrayList<>();
+        for (Ring ring : rings.values()) {
+            for (SlowQuery slowQuery : ring.snapshot()) {
+                if (Objects.equals(mUsiteNo, slowQuery.mUsiteNo())
+                        && (isBlank(serviceName) || serviceName.equalsIgnoreCase(slowQuery.serviceName()))
+                        && (isBlank(methodName) || methodName.equalsIgnoreCase(slowQuery.methodName()))) {
+                    result.add(slowQuery);
+                }
+            }
+        }
+        result.sort(Comparator.comparingLong(SlowQuery::elapsedMs).reversed());
+        return result;
+    }
+
+    /**
+     * 바인딩 값 대신 타입(문자열은 길이 포함)만 남깁니다. 예: `String(12)`, `Long`, `null`
+     * 개인정보나 비밀번호가 관리 화면과 힙 덤프에 남지 않도록 값은 보관하지 않습니다.
+     */
+    static Map<String, Object> mask(Map<String, Object> parameters) {
+        Map<String, Object> masked = new LinkedHashMap<>();
+        if (parameters != null) {
+            parameters.forEach((name, value) -> masked.put(name, describe(value)));
+        }
+        return masked;
+    }
+
+    private static String describe(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence text) {
+            return "String(" + text.length() + ")";
+        }
+        if (value instanceof Collection<?> values) {
+            return value.getClass().getSimpleName() + "(" + values.size() + ")";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    /**
+     * 느린 실행 한 건.
+     * @param executedAt 기록 시각
+     * @param elapsedMs 전체 소요 시간
+     * @param phases 단계별 소요 시간 (ms)
+     * @param rows 결과 행 수 (-1: 알 수 없음)
+     * @param sql 렌더링된 SQL (페이징 적용 전)
+     * @param parameters 바인딩 파라미터 이름과 값의 타입 (값은 마스킹)
+     */
+    public record SlowQuery(Instant executedAt, Long mUsiteNo, String serviceName, String methodName, String execType,
+                            long elapsedMs, Map<String, Long> phases, int rows, boolean success, String sql,
+                            Map<String, Object> parameters) {
+    }
+
+    /** 고정 크기 링 버퍼. 가장 오래된 항목부터 덮어씁니다. */
+    private static final class Ring {
+        private final AtomicReferenceArray<SlowQuery> slots;
+        private final AtomicLong next = new AtomicLong();
+
+        private Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        private void add(SlowQuery slowQuery) {
+            slots.set((int) (next.getAndIncrement() % slots.length()), slowQuery);
+        }
+
+        private List<SlowQuery> snapshot() {
+            List<SlowQuery> result = new ArrayList<>(slots.length());
+            for (int i = 0; i < slots.length(); i++) {
+                SlowQuery slowQuery = slots.get(i);
+                if (slowQuery != null) {
+                    result.add(slowQuery);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.kydbm.monarch.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * M_SERVICE의 QUERY_STMT를 한 번만 해석하여 만든 컴파일된 SQL 템플릿.
+ * 쿼리문을 고정 문자열(literal), 동적 블록(optional block), 플레이스홀더(@PARAM@) 조각으로 나누어 보관하고,
+ * 요청 시에는 전달된 파라미터 존재 여부만 보고 조각들을 이어 붙여 실행 가능한 SQL을 만듭니다.
+ * <p>
+ * 동적 블록 규칙은 기존과 동일합니다. `/* ... @PARAM@ ... *&#47;` 주석 안에 플레이스홀더가 하나라도 있으면 동적 블록이며,
+ * 블록 안의 플레이스홀더 중 하나라도 요청 파라미터에 있으면 주석을 벗겨 포함하고, 없으면 통째로 제거합니다.
+ * 플레이스홀더가 없는 일반 주석은 그대로 유지됩니다.
+ */
+public final class SqlTemplate {
+
+    /** 원본 쿼리문. 캐시된 템플릿이 최신인지 비교하는 데 사용합니다. */
+    private final String source;
+    private final Segment[] segments;
+    /** 템플릿 전체에 등장하는 파라미터 이름 (등장 순서 유지) */
+    private final Set<String> paramNames;
+
+    private SqlTemplate(String source, Segment[] segments, Set<String> paramNames) {
+        this.source = source;
+        this.segments = segments;
+        this.paramNames = paramNames;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public Set<String> getParamNames() {
+        return paramNames;
+    }
+
+    /**
+     * 쿼리문을 파싱하여 템플릿을 생성합니다.
+     * @param source M_SERVICE.QUERY_STMT 원문
+     * @return 컴파일된 템플릿
+     */
+    public static SqlTemplate compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        Set<String> allNames = new LinkedHashSet<>();
+        int length = source.length();
+        int literalStart = 0;
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            if (c == '/' && i + 1 < length && source.charAt(i + 1) == '*') {
+                int close = source.indexOf("*/", i + 2);
+                if (close < 0) {
+                    // 닫히지 않은 주석은 고정 문자열로 취급하고, 그 뒤의 플레이스홀더는 기존과 같이 치환합니다.
+                    i += 2;
+                    continue;
+                }
+                List<Segment> blockSegments = new ArrayList<>();
+                Set<String> blockNames = new LinkedHashSet<>();
+                parseInline(source, i + 2, close, blockSegments, blockNames);
+                if (!blockNames.isEmpty()) {
+                    addLiteral(segments, source, literalStart, i);
+                    segments.add(new Block(blockSegments.toArray(new Segment[0]), blockNames.toArray(new String[0])));
+                    allNames.addAll(blockNames);
+                    literalStart = close + 2;
+                }
+                i = close + 2;
+            } else if (c == '@') {
+                int end = placeholderEnd(source, i, length);
+                if (end > 0) {
+                    addLiteral(segments, source, literalStart, i);
+                    String name = source.substring(i + 1, end);
+                    segments.add(new Placeholder(name));
+                    allNames.add(name);
+                    literalStart = end + 1;
+                    i = end + 1;
+                } else {
+                    i++;
+                }
+            } else {
+                i++;
+            }
+        }
+        addLiteral(segments, source, literalStart, length);
+        return new SqlTemplate(source, segments.toArray(new Segment[0]), Collections.unmodifiableSet(allNames));
+    }
+
+    /**
+     * 전달된 파라미터 존재 여부에 따라 실행 가능한 SQL(:PARAM 형식)을 만듭니다.
+     * @param presentParams 요청에 포함된 파라미터 이름 집합
+     * @return 렌더링된 SQL과 실제로 바인딩이 필요한 파라미터 목록
+     */
+    public Rendered render(Set<String> presentParams) {
+        StringBuilder sql = new StringBuilder(source.length());
+        Set<String> bound = new LinkedHashSet<>();
+        for (Segment segment : segments) {
+            segment.appendTo(sql, bound, presentParams);
+        }
+        return new Rendered(sql.toString(), new ArrayList<>(bound));
+    }
+
+    /** 블록 내부(주석 안쪽)를 고정 문자열과 플레이스홀더로 나눕니다. 블록은 중첩되지 않습니다. */
+    private static void parseInline(String source, int from, int to, List<Segment> out, Set<String> names) {
+        int literalStart = from;
+        int i = from;
+        while (i < to) {
+            if (source.charAt(i) == '@') {
+                int end = placeholderEnd(source, i, to);
+                if (end > 0) {
+                    addLiteral(out, source, literalStart, i);
+                    String name = source.substring(i + 1, end);
+                    out.add(new Placeholder(name));
+                    names.add(name);
+                    literalStart = end + 1;
+                    i = end + 1;
+                    continue;
+                }
+            }
+            i++;
+        }
+        addLiteral(out, source, literalStart, to);
+    }
+
+    /** `@` 위치에서 시작하는 `@[a-zA-Z0-9_]+@` 패턴의 닫는 `@` 위치를 반환합니다. 패턴이 아니면 -1. */
+    private static int placeholderEnd(String source, int at, int limit) {
+        int j = at + 1;
+        while (j < limit && isNameChar(source.charAt(j))) {
+            j++;
+        }
+        return (j > at + 1 && j < limit && source.charAt(j) == '@') ? j : -1;
+    }
+
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static void addLiteral(List<Segment> out, String source, int from, int to) {
+        if (to > from) {
+            out.add(new Literal(source.substring(from, to)));
+        }
+    }
+
+    /**
+     * 렌더링 결과.
+     * @param sql `:PARAM` 형식의 실행 가능한 SQL
+     * @param paramNames SQL에 실제로 포함된 파라미터 이름 (등장 순서, 중복 제거)
+     */
+    public record Rendered(String sql, List<String> paramNames) {
+    }
+
+    private interface Segment {
+        void appendTo(StringBuilder sql, Set<String> bound, Set<String> presentParams);
+    }
+
+    private record Literal(String text) implements Segment {
+        @Override
+        public void appendTo(StringBuilder sql, Set<String> bound, Set<String> presentParams) {
+            sql.append(text);
+        }
+    }
+
+    private record Placeholder(String name) implements Segment {
+        @Override
+        public void appendTo(StringBuilder sql, Set<String> bound, Set<String> presentParams) {
+            sql.append(':').append(name);
+            bound.add(name);
+        }
+    }
+
+    private record Block(Segment[] segments, String[] names) implements Segment {
+        @Override
+        public void appendTo(StringBuilder sql, Set<String> bound, Set<String> presentParams) {
+            for (String name : names) {
+                if (presentParams.contains(name)) {
+                    for (Segment segment : segments) {
+                        segment.appendTo(sql, bound, presentParams);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.kydbm.monarch.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스/메소드별로 실제 실행된 SQL 문장(텍스트)의 종류 수를 집계합니다.
+ * Oracle은 텍스트가 다른 SQL마다 하드 파싱과 별도의 커서를 사용하므로,
+ * 이 값이 작고 안정적으로 유지되는지로 커서 재사용 여부를 확인할 수 있습니다.
+ * 집계 값은 `monarch.query.sql.distinct` 게이지와 관리자 API로 노출됩니다.
+ */
+@Component
+public class SqlTextStats {
+
+    private final MeterRegistry meterRegistry;
+    /** 서비스별로 보관할 SQL 해시의 최대 개수. 이 이상은 더 세지 않습니다. */
+    private final int maxTextsPerService;
+    private final Map<String, Set<Integer>> textsByService = new ConcurrentHashMap<>();
+
+    public SqlTextStats(MeterRegistry meterRegistry,
+                        @Value("${monarch.query.sql-stats.max-texts-per-service:1000}") int maxTextsPerService) {
+        this.meterRegistry = meterRegistry;
+        this.maxTextsPerService = maxTextsPerService;
+    }
+
+    /**
+     * 실행된 SQL 텍스트를 기록합니다.
+     * @param serviceName 서비스 이름
+     * @param methodName 메소드 이름
+     * @param sql 실제로 DB에 전달된 SQL 텍스트
+     */
+    public void record(String serviceName, String methodName, String sql) {
+        Set<Integer> texts = textsByService.computeIfAbsent(serviceName + "." + methodName, key -> {
+            Set<Integer> set = ConcurrentHashMap.newKeySet();
+            Gauge.builder("monarch.query.sql.distinct", set, Set::size)
+                    .description("Distinct SQL texts executed per service/method")
+                    .tag("service", serviceName)
+                    .tag("method", methodName)
+                    .register(meterRegistry);
+            return set;
+        });
+        if (texts.size() < maxTextsPerService) {
+            texts.add(sql.hashCode());
+        }
+    }
+
+    /** 서비스/메소드별 SQL 텍스트 종류 수 (이름순) */
+    public Map<String, Integer> snapshot() {
+        Map<String, Integer> result = new TreeMap<>();
+        textsByService.forEach((key, texts) -> result.put(key, texts.size()));
+        return result;
+    }
+}
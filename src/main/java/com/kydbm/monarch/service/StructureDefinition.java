@@ -0,0 +1,113 @@
+package com.kydbm.monarch.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+
+/**
+ * 캐시에 보관되는 M_STRUCTURE 한 건의 불변 스냅샷.
+ * 화면 구성 원문(STRUCTURE_CONT)을 불러올 때 한 번만 표준 JSON으로 정리(`LenientJson`)하고,
+ * 응답 본문(`{"structureCont": ...}`) JSON 바이트와 그 해시(ETag)를 미리 만들어 둡니다.
+ * 요청마다 정규식 처리나 직렬화가 일어나지 않으며, 클라이언트가 같은 ETag를 보내면 본문 없이 304로 응답할 수 있습니다.
+ */
+public final class StructureDefinition {
+
+    private static final Logger log = LoggerFactory.getLogger(StructureDefinition.class);
+
+    private final String content;
+    private final byte[] body;
+    private final String etag;
+
+    /**
+     * @param structureName 화면 구성 이름
+     * @param mUsiteNo 회원사 번호
+     * @param raw 화면 구성 원문 (STRUCTURE_CONT)
+     * @param objectMapper 응답 본문 직렬화에 사용할 ObjectMapper
+     */
+    public StructureDefinition(String structureName, Long mUsiteNo, String raw, ObjectMapper objectMapper) {
+        StructureNormalizationEvent event = new StructureNormalizationEvent();
+        event.begin();
+        this.content = normalize(raw);
+        event.end();
+        if (event.shouldCommit()) {
+            event.tenant = mUsiteNo == null ? 0L : mUsiteNo;
+            event.structureName = structureName;
+            event.inputLength = raw == null ? 0 : raw.length();
+            event.outputLength = content == null ? 0 : content.length();
+            event.commit();
+        }
+
+        try {
+            this.body = objectMapper.writeValueAsBytes(Collections.singletonMap("structureCont", content));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize structure: " + structureName, e);
+        }
+        this.etag = "\"" + hash(body) + "\"";
+    }
+
+    /**
+     * 화면 구성 원문을 표준 JSON으로 정리합니다. (주석, 중복/후행 쉼표 제거, 따옴표 없는 키 보정, 공백 제거)
+     * 함수 등 JSON으로 표현할 수 없는 값이 있으면 원문을 그대로 반환하며, 클라이언트가 JavaScript로 해석합니다.
+     */
+    static String normalize(String structureContString) {
+        if (structureContString == null || structureContString.trim().isEmpty()) {
+            return structureContString;
+        }
+        try {
+            return LenientJson.toStrictJson(structureContString);
+        } catch (IllegalArgumentException e) {
+            log.warn("Structure is not convertible to JSON, returning it as is: {}", e.getMessage());
+            return structureContString.trim();
+        }
+    }
+
+    /** 응답 본문의 SHA-256 해시 앞 16바이트 (16진수) */
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /** 정리된 화면 구성 */
+    public String getContent() {
+        return content;
+    }
+
+    /** 응답 본문 JSON (UTF-8). 여러 요청이 공유하므로 수정하지 않아야 합니다. */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /** 응답 본문의 ETag (따옴표 포함) */
+    public String getETag() {
+        return etag;
+    }
+
+    /**
+     * 클라이언트의 If-None-Match 헤더가 현재 ETag와 일치하는지 확인합니다. (여러 값, 약한 비교(W/), * 지원)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package com.kydbm.monarch.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 그리드 구성 정보(M_STRUCTURE) 정리(주석/쉼표/공백 제거) 한 건의 JFR 이벤트. 캐시에 불러올 때 한 번 발생합니다.
+ */
+@Name("com.kydbm.monarch.StructureNormalization")
+@Label("Structure Normalization")
+@Category({"Monarch", "Structure"})
+@Description("Normalization of an M_STRUCTURE grid definition when it is loaded into the metadata cache")
+@StackTrace(false)
+class StructureNormalizationEvent extends Event {
+
+    @Label("Tenant")
+    long tenant;
+
+    @Label("Structure")
+    String structureName;
+
+    @Label("Input Length")
+    @Description("Length of the stored definition in characters")
+    long inputLength;
+
+    @Label("Output Length")
+    @Description("Length of the normalized definition in characters")
+    long outputLength;
+}
@@ -0,0 +1,123 @@
+package com.kydbm.monarch.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 내장 H2 DB 두 개(기본, report)로 DS_NAME에 따른 데이터소스 선택과 기본 데이터소스로의 대체를 확인합니다.
+ */
+class DataSourceRegistryTest {
+
+	private DataSourceRegistry registry;
+
+	@BeforeEach
+	void createRegistry() {
+		String suffix = UUID.randomUUID().toString();
+		DriverManagerDataSource primary = new DriverManagerDataSource("jdbc:h2:mem:primary-" + suffix + ";DB_CLOSE_DELAY=-1", "sa", "");
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty("monarch.datasources.report.jdbc-url", "jdbc:h2:mem:report-" + suffix + ";DB_CLOSE_DELAY=-1")
+				.withProperty("monarch.datasources.report.username", "sa")
+				.withProperty("monarch.datasources.report.password", "")
+				.withProperty("monarch.datasources.report.maximum-pool-size", "2");
+		registry = new DataSourceRegistry(environment, primary, new DataSourceTransactionManager(primary),
+				new SimpleMeterRegistry(), 500, 0, 1000);
+
+		createMarker(registry.resolve(null), "PRIMARY");
+		createMarker(registry.resolve("report"), "REPORT");
+	}
+
+	@AfterEach
+	void closeRegistry() {
+		registry.destroy();
+	}
+
+	@Test
+	void blankOrDefaultNameResolvesToPrimary() {
+		DataSourceRegistry.Target primary = registry.resolve(null);
+
+		assertEquals(DataSourceRegistry.DEFAULT_NAME, primary.name());
+		assertSame(primary, registry.resolve(""));
+		assertSame(primary, registry.resolve("  "));
+		assertSame(primary, registry.resolve("DEFAULT"));
+		assertEquals("PRIMARY", marker(primary));
+	}
+
+	@Test
+	void registeredNameResolvesToItsOwnPool() {
+		DataSourceRegistry.Target report = registry.resolve("report");
+
+		assertEquals("report", report.name());
+		assertSame(report, registry.resolve("REPORT"));
+		assertSame(report, registry.resolve(" Report "));
+		assertTrue(registry.isRegistered("REPORT"));
+		assertEquals("REPORT", marker(report));
+		assertEquals("REPORT", marker(report.streamingJdbcTemplate()));
+	}
+
+	@Test
+	void unknownNameFallsBackToPrimary() {
+		DataSourceRegistry.Target target = registry.resolve("archive");
+
+		assertSame(registry.resolve(null), target);
+		assertFalse(registry.isRegistered("archive"));
+		assertFalse(registry.isRegistered(null));
+		assertEquals("PRIMARY", marker(target));
+		// 두 번째 조회도 같은 결과 (경고는 한 번만 남깁니다.)
+		assertSame(target, registry.resolve("archive"));
+	}
+
+	@Test
+	void executeRunsInTransactionOfResolvedDataSource() {
+		DataSourceRegistry.Target report = registry.resolve("report");
+
+		String name = report.execute(true, 5, status -> {
+			assertTrue(status.isNewTransaction());
+			return marker(report);
+		});
+		int updated = report.execute(false, 0, status -> report.jdbcTemplate().update(
+				"UPDATE DB_MARK SET NAME = :name", new MapSqlParameterSource("name", "REPORT2")));
+
+		assertEquals("REPORT", name);
+		assertEquals(1, updated);
+		assertEquals("REPORT2", marker(report));
+		assertEquals("PRIMARY", marker(registry.resolve(null)));
+	}
+
+	@Test
+	void destroyClosesRegisteredPools() {
+		DataSourceRegistry.Target report = registry.resolve("report");
+
+		registry.destroy();
+
+		assertThrows(RuntimeException.class, () -> marker(report));
+		assertEquals("PRIMARY", marker(registry.resolve(null)));
+	}
+
+	private static void createMarker(DataSourceRegistry.Target target, String name) {
+		target.jdbcTemplate().getJdbcTemplate().execute("CREATE TABLE DB_MARK (NAME VARCHAR(20))");
+		target.jdbcTemplate().update("INSERT INTO DB_MARK VALUES (:name)", new MapSqlParameterSource("name", name));
+	}
+
+	private static String marker(DataSourceRegistry.Target target) {
+		return marker(target.jdbcTemplate());
+	}
+
+	private static String marker(NamedParameterJdbcTemplate template) {
+		return template.queryForObject("SELECT NAME FROM DB_MARK", new MapSqlParameterSource(), String.class);
+	}
+}
@@ -0,0 +1,110 @@
+package com.kydbm.monarch.config;
+
+import com.kydbm.monarch.service.QueryRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 데이터소스별 동시 실행 한도를 넘은 호출이 대기 시간 후 거절되고, 허가가 반납되면 다시 실행되는지 확인합니다.
+ */
+class DbConcurrencyLimiterTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void rejectsCallsBeyondPermitCount() throws Exception {
+		DbConcurrencyLimiter limiter = new DbConcurrencyLimiter("report", 2, 100, new SimpleMeterRegistry());
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Future<String>> holders = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			holders.add(executor.submit(() -> limiter.execute(() -> {
+				started.countDown();
+				await(release);
+				return "done";
+			})));
+		}
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		long begin = System.nanoTime();
+		QueryRejectedException e = assertThrows(QueryRejectedException.class, () -> limiter.execute(() -> "third"));
+		long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+		assertTrue(e.getMessage().contains("report, max 2"), e.getMessage());
+		assertTrue(waitedMs >= 90, "waited " + waitedMs + "ms");
+
+		release.countDown();
+		for (Future<String> holder : holders) {
+			assertEquals("done", holder.get(5, TimeUnit.SECONDS));
+		}
+		// 허가가 반납되면 다시 실행됩니다.
+		assertEquals("fourth", limiter.execute(() -> "fourth"));
+	}
+
+	@Test
+	void waitingCallRunsWhenPermitIsReleasedInTime() throws Exception {
+		DbConcurrencyLimiter limiter = new DbConcurrencyLimiter("default", 1, 5000, new SimpleMeterRegistry());
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> holder = executor.submit(() -> limiter.execute(() -> {
+			started.countDown();
+			await(release);
+			return "first";
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		Future<String> waiting = executor.submit(() -> limiter.execute(() -> "second"));
+		Thread.sleep(100);
+		release.countDown();
+
+		assertEquals("first", holder.get(5, TimeUnit.SECONDS));
+		assertEquals("second", waiting.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void nestedCallOnSameThreadReusesPermit() {
+		DbConcurrencyLimiter limiter = new DbConcurrencyLimiter("default", 1, 100, new SimpleMeterRegistry());
+
+		String result = limiter.execute(() -> limiter.execute(() -> "nested"));
+
+		assertEquals("nested", result);
+		assertEquals("again", limiter.execute(() -> "again"));
+	}
+
+	@Test
+	void permitIsReleasedWhenActionFails() {
+		DbConcurrencyLimiter limiter = new DbConcurrencyLimiter("default", 1, 100, new SimpleMeterRegistry());
+
+		assertThrows(IllegalStateException.class, () -> limiter.execute(() -> {
+			throw new IllegalStateException("ORA-01013");
+		}));
+
+		assertEquals("next", limiter.execute(() -> "next"));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.kydbm.monarch.controller;
+
+import com.kydbm.monarch.mapper.MServiceMapper;
+import com.kydbm.monarch.mapper.UserMapper;
+import com.kydbm.monarch.service.DynamicGridStructure;
+import com.kydbm.monarch.service.DynamicQueryService;
+import com.kydbm.monarch.service.InvalidQueryParameterException;
+import com.kydbm.monarch.service.ParallelQueryExecutor;
+import com.kydbm.monarch.service.QueryMetrics;
+import com.kydbm.monarch.service.ScreenBundleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 다중 쿼리 요청(`/api/data/batch`)의 항목별 결과를 확인합니다.
+ * 실패한 항목에는 잘못된 요청의 원인만 담기고, DB 오류의 SQL/ORA 메시지는 응답에 나가지 않아야 합니다.
+ */
+class ApiControllerBatchTest {
+
+	private final DynamicQueryService dynamicQueryService = mock(DynamicQueryService.class);
+	private final ParallelQueryExecutor parallelQueryExecutor = new ParallelQueryExecutor(4, 10, false);
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		ApiController controller = new ApiController(dynamicQueryService, mock(DynamicGridStructure.class), mock(UserMapper.class),
+				mock(MServiceMapper.class), parallelQueryExecutor, mock(QueryMetrics.class),
+				mock(ScreenBundleService.class), 50);
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		parallelQueryExecutor.destroy();
+	}
+
+	@Test
+	void entriesAreReturnedInRequestOrder() throws Exception {
+		when(dynamicQueryService.executeReadQuery(eq("A"), eq("LIST"), eq(1L), anyMap())).thenReturn(List.of(Map.of("V", 1)));
+		when(dynamicQueryService.executeReadQuery(eq("B"), eq("LIST"), eq(1L), anyMap())).thenReturn(List.of(Map.of("V", 2)));
+
+		performBatch("[{\"id\":\"a\",\"serviceName\":\"A\",\"methodName\":\"LIST\"},{\"id\":\"b\",\"serviceName\":\"B\",\"methodName\":\"LIST\"}]")
+				.andExpect(jsonPath("$[0].id").value("a"))
+				.andExpect(jsonPath("$[0].status").value("OK"))
+				.andExpect(jsonPath("$[0].data[0].V").value(1))
+				.andExpect(jsonPath("$[1].id").value("b"))
+				.andExpect(jsonPath("$[1].data[0].V").value(2));
+	}
+
+	@Test
+	void databaseErrorDetailsAreNotReturned() throws Exception {
+		when(dynamicQueryService.executeReadQuery(eq("A"), eq("LIST"), eq(1L), anyMap())).thenThrow(new BadSqlGrammarException(
+				"query", "SELECT PASSWORD FROM M_USER", new SQLException("ORA-00942: table or view does not exist")));
+
+		performBatch("[{\"serviceName\":\"A\",\"methodName\":\"LIST\"}]")
+				.andExpect(jsonPath("$[0].status").value("ERROR"))
+				.andExpect(jsonPath("$[0].error").value("Query execution failed."))
+				.andExpect(content().string(not(containsString("ORA-00942"))))
+				.andExpect(content().string(not(containsString("M_USER"))));
+	}
+
+	@Test
+	void invalidParameterMessageIsReturned() throws Exception {
+		when(dynamicQueryService.executeReadQuery(eq("A"), eq("LIST"), eq(1L), anyMap()))
+				.thenThrow(new InvalidQueryParameterException("Invalid value for parameter FROM_DATE: expected DATE"));
+
+		performBatch("[{\"serviceName\":\"A\",\"methodName\":\"LIST\"}]")
+				.andExpect(jsonPath("$[0].status").value("ERROR"))
+				.andExpect(jsonPath("$[0].error").value("Invalid value for parameter FROM_DATE: expected DATE"));
+	}
+
+	@Test
+	void entriesRunOnlyReadServices() throws Exception {
+		when(dynamicQueryService.executeReadQuery(eq("SAVE_SVC"), eq("SAVE"), eq(1L), anyMap()))
+				.thenThrow(new IllegalArgumentException("Only READ and LIST services can be executed here: INSERT"));
+
+		performBatch("[{\"serviceName\":\"SAVE_SVC\",\"methodName\":\"SAVE\"}]")
+				.andExpect(jsonPath("$[0].status").value("ERROR"))
+				.andExpect(jsonPath("$[0].error").value("Only READ and LIST services can be executed here: INSERT"));
+		verify(dynamicQueryService, never()).executeDynamicQuery(any(), any(), any(), anyMap());
+	}
+
+	private ResultActions performBatch(String body) throws Exception {
+		MvcResult result = mockMvc.perform(post("/api/data/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,170 @@
+package com.kydbm.monarch.controller;
+
+import com.kydbm.monarch.mapper.MServiceMapper;
+import com.kydbm.monarch.mapper.UserMapper;
+import com.kydbm.monarch.service.DynamicGridStructure;
+import com.kydbm.monarch.service.DynamicQueryService;
+import com.kydbm.monarch.service.ParallelQueryExecutor;
+import com.kydbm.monarch.service.QueryCancellation;
+import com.kydbm.monarch.service.QueryCancelledException;
+import com.kydbm.monarch.service.QueryMetrics;
+import com.kydbm.monarch.service.ScreenBundleService;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 비동기 요청이 클라이언트 연결 종료(오류)나 시간 초과로 끝나면 실행 중인 쿼리의 취소 범위가 취소되는지 확인합니다.
+ * 서블릿 컨테이너가 보내는 AsyncListener 이벤트를 MockAsyncContext로 직접 발생시킵니다.
+ */
+class ApiControllerCancellationTest {
+
+	private final DynamicQueryService dynamicQueryService = mock(DynamicQueryService.class);
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		ApiController controller = new ApiController(dynamicQueryService, mock(DynamicGridStructure.class), mock(UserMapper.class),
+				mock(MServiceMapper.class), mock(ParallelQueryExecutor.class), mock(QueryMetrics.class),
+				mock(ScreenBundleService.class), 50);
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+	@Test
+	void disconnectCancelsExecute() throws Exception {
+		BlockingQuery query = new BlockingQuery();
+		when(dynamicQueryService.executeDynamicQueryAsJson(eq("SVC"), eq("LIST"), eq(1L), anyMap())).thenAnswer(invocation -> {
+			query.block();
+			return new byte[0];
+		});
+
+		MvcResult result = mockMvc.perform(get("/api/data/execute").param("serviceName", "SVC").param("methodName", "LIST"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		query.awaitStarted();
+		disconnect(result);
+
+		assertTrue(query.awaitCancelled(), "query was not cancelled");
+	}
+
+	@Test
+	void timeoutCancelsExecute() throws Exception {
+		BlockingQuery query = new BlockingQuery();
+		when(dynamicQueryService.executeDynamicQueryAsJson(eq("SVC"), eq("LIST"), eq(1L), anyMap())).thenAnswer(invocation -> {
+			query.block();
+			return new byte[0];
+		});
+
+		MvcResult result = mockMvc.perform(get("/api/data/execute").param("serviceName", "SVC").param("methodName", "LIST"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		query.awaitStarted();
+		for (AsyncListener listener : listeners(result)) {
+			listener.onTimeout(new AsyncEvent(result.getRequest().getAsyncContext()));
+		}
+
+		assertTrue(query.awaitCancelled(), "query was not cancelled");
+	}
+
+	@Test
+	void disconnectCancelsStream() throws Exception {
+		BlockingQuery query = new BlockingQuery();
+		doAnswer(invocation -> {
+			query.block();
+			return null;
+		}).when(dynamicQueryService).streamDynamicQuery(eq("SVC"), eq("LIST"), eq(1L), anyMap(), any(OutputStream.class));
+
+		MvcResult result = mockMvc.perform(get("/api/data/stream").param("serviceName", "SVC").param("methodName", "LIST"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		query.awaitStarted();
+		disconnect(result);
+
+		assertTrue(query.awaitCancelled(), "query was not cancelled");
+	}
+
+	@Test
+	void disconnectCancelsBulk() throws Exception {
+		BlockingQuery query = new BlockingQuery();
+		when(dynamicQueryService.executeBatch(eq("SVC"), eq("SAVE"), eq(1L), anyList())).thenAnswer(invocation -> query.block());
+
+		MvcResult result = mockMvc.perform(post("/api/data/bulk").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"serviceName\":\"SVC\",\"methodName\":\"SAVE\",\"rows\":[{\"A\":1}]}"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		query.awaitStarted();
+		disconnect(result);
+
+		assertTrue(query.awaitCancelled(), "query was not cancelled");
+	}
+
+	/** 클라이언트 연결 종료: 서블릿 컨테이너가 비동기 요청의 리스너에 오류를 알립니다. */
+	private static void disconnect(MvcResult result) throws IOException {
+		for (AsyncListener listener : listeners(result)) {
+			listener.onError(new AsyncEvent(result.getRequest().getAsyncContext(), new IOException("Broken pipe")));
+		}
+	}
+
+	private static List<AsyncListener> listeners(MvcResult result) {
+		return new ArrayList<>(((MockAsyncContext) result.getRequest().getAsyncContext()).getListeners());
+	}
+
+	/** 취소 범위가 취소될 때까지 DB에서 실행 중인 것처럼 기다리는 조회 */
+	private static final class BlockingQuery {
+
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final CountDownLatch cancelled = new CountDownLatch(1);
+
+		List<Map<String, Object>> block() {
+			QueryCancellation cancellation = QueryCancellation.current();
+			started.countDown();
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (cancellation != null && System.nanoTime() < deadline) {
+				if (cancellation.isCancelled()) {
+					cancelled.countDown();
+					throw new QueryCancelledException("Query cancelled: the client disconnected.");
+				}
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					// Spring은 onError/onTimeout 콜백보다 먼저 작업 스레드를 인터럽트하므로, 취소 여부를 다시 확인합니다.
+				}
+			}
+			return List.of();
+		}
+
+		void awaitStarted() throws InterruptedException {
+			assertTrue(started.await(5, TimeUnit.SECONDS), "query did not start");
+		}
+
+		boolean awaitCancelled() throws InterruptedException {
+			return cancelled.await(5, TimeUnit.SECONDS);
+		}
+	}
+}
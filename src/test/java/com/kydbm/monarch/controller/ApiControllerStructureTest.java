@@ -0,0 +1,80 @@
+package com.kydbm.monarch.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kydbm.monarch.mapper.MServiceMapper;
+import com.kydbm.monarch.mapper.UserMapper;
+import com.kydbm.monarch.service.DynamicGridStructure;
+import com.kydbm.monarch.service.DynamicQueryService;
+import com.kydbm.monarch.service.ParallelQueryExecutor;
+import com.kydbm.monarch.service.QueryMetrics;
+import com.kydbm.monarch.service.ScreenBundleService;
+import com.kydbm.monarch.service.StructureDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 화면 구성 정보(M_STRUCTURE) 요청은 비동기로 넘기지 않고 요청 스레드에서 바로 응답하고,
+ * 그 외 `/data/execute` 요청은 취소 가능한 비동기 요청으로 처리되는지 확인합니다.
+ */
+class ApiControllerStructureTest {
+
+	private final DynamicQueryService dynamicQueryService = mock(DynamicQueryService.class);
+	private final DynamicGridStructure dynamicGridStructure = mock(DynamicGridStructure.class);
+	private final StructureDefinition structure = new StructureDefinition("SCREEN", 1L, "{ service: 'SVC' }", new ObjectMapper());
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		ApiController controller = new ApiController(dynamicQueryService, dynamicGridStructure, mock(UserMapper.class),
+				mock(MServiceMapper.class), mock(ParallelQueryExecutor.class), mock(QueryMetrics.class),
+				mock(ScreenBundleService.class), 50);
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+		when(dynamicGridStructure.getStructure("SCREEN", 1L)).thenReturn(structure);
+	}
+
+	@Test
+	void structureIsServedSynchronously() throws Exception {
+		mockMvc.perform(get("/api/data/execute").param("serviceName", "M_STRUCTURE").param("structureName", "SCREEN"))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, structure.getETag()))
+				.andExpect(content().json("{\"structureCont\":\"{\\\"service\\\":\\\"SVC\\\"}\"}"));
+	}
+
+	@Test
+	void matchingETagIsNotModified() throws Exception {
+		mockMvc.perform(get("/api/data/execute").param("serviceName", "M_STRUCTURE").param("structureName", "SCREEN")
+						.header(HttpHeaders.IF_NONE_MATCH, structure.getETag()))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isNotModified())
+				.andExpect(content().bytes(new byte[0]));
+	}
+
+	@Test
+	void missingStructureReturnsNull() throws Exception {
+		mockMvc.perform(get("/api/data/execute").param("serviceName", "M_STRUCTURE").param("structureName", "OTHER"))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(content().json("{\"structureCont\":null}"));
+	}
+
+	@Test
+	void otherServicesRunAsynchronously() throws Exception {
+		when(dynamicQueryService.executeDynamicQueryAsJson(eq("SVC"), eq("LIST"), eq(1L), anyMap())).thenReturn("[]".getBytes());
+
+		mockMvc.perform(get("/api/data/execute").param("serviceName", "SVC").param("methodName", "LIST"))
+				.andExpect(request().asyncStarted());
+	}
+}
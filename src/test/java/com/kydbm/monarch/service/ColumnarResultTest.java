@@ -0,0 +1,168 @@
+package com.kydbm.monarch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 열 중심 응답의 컬럼 타입, null 처리, 사전 인코딩 기준과 응답 크기를 확인합니다.
+ */
+class ColumnarResultTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	@Test
+	void javadocExampleIsDictionaryEncoded() throws Exception {
+		List<Map<String, Object>> rows = List.of(
+				row("CUST_NAME", "홍길동", "STATUS", "정상"),
+				row("CUST_NAME", "김철수", "STATUS", "휴면"),
+				row("CUST_NAME", "이영희", "STATUS", "정상"),
+				row("CUST_NAME", "박민수", "STATUS", "정상"));
+
+		assertEquals("{\"columns\":[{\"name\":\"CUST_NAME\",\"type\":\"string\"},"
+						+ "{\"name\":\"STATUS\",\"type\":\"string\",\"dict\":[\"정상\",\"휴면\"]}],"
+						+ "\"rows\":[[\"홍길동\",0],[\"김철수\",1],[\"이영희\",0],[\"박민수\",0]]}",
+				MAPPER.writeValueAsString(ColumnarResult.encode(rows)));
+	}
+
+	@Test
+	void typesAreTakenFromNonNullValues() {
+		Timestamp regDate = Timestamp.valueOf("2026-03-01 09:00:00");
+		List<Map<String, Object>> rows = List.of(
+				row("NO", null, "AMOUNT", new BigDecimal("1.5"), "REG_DATE", regDate, "USE_YN", true, "MEMO", null),
+				row("NO", 2, "AMOUNT", 3L, "REG_DATE", regDate.toLocalDateTime(), "USE_YN", false, "MEMO", null));
+
+		Map<String, Object> result = ColumnarResult.encode(rows);
+
+		assertEquals(List.of("number", "number", "datetime", "boolean", "null"), columnValues(result, "type"));
+		assertEquals(Arrays.asList(null, new BigDecimal("1.5"), regDate, true, null), Arrays.asList(rowsOf(result).get(0)));
+	}
+
+	@Test
+	void mixedTypesAreSentAsIs() {
+		List<Map<String, Object>> rows = List.of(
+				row("CODE", 1), row("CODE", "A"), row("CODE", "A"), row("CODE", "A"), row("CODE", 1));
+
+		Map<String, Object> result = ColumnarResult.encode(rows);
+
+		assertEquals(List.of("mixed"), columnValues(result, "type"));
+		assertFalse(columns(result).get(0).containsKey("dict"));
+		assertEquals(List.of(1, "A", "A", "A", 1), rowsOf(result).stream().map(values -> values[0]).toList());
+	}
+
+	@Test
+	void nullsAreNotDictionaryEntries() {
+		List<Map<String, Object>> rows = List.of(row("STATUS", "Y"), row("STATUS", null), row("STATUS", "Y"), row("STATUS", null));
+
+		Map<String, Object> result = ColumnarResult.encode(rows);
+
+		assertEquals(List.of("Y"), columns(result).get(0).get("dict"));
+		assertEquals(Arrays.asList(0, null, 0, null), rowsOf(result).stream().map(values -> values[0]).toList());
+	}
+
+	@Test
+	void dictionaryIsUsedOnlyWhenDistinctValuesAreAtMostHalfOfRows() {
+		// 행 4개에 값 2종류: 2 * 2 > 4 가 아니므로 사전 사용
+		assertTrue(columns(ColumnarResult.encode(statusRows("A", "B", "A", "B"))).get(0).containsKey("dict"));
+		// 행 5개에 값 3종류: 3 * 2 > 5 이므로 사전 미사용
+		assertFalse(columns(ColumnarResult.encode(statusRows("A", "B", "C", "A", "B"))).get(0).containsKey("dict"));
+		// 행 2개에 값 2종류: 사전 미사용
+		assertFalse(columns(ColumnarResult.encode(statusRows("A", "B"))).get(0).containsKey("dict"));
+		// 행 2개에 값 1종류: 사전 사용
+		assertTrue(columns(ColumnarResult.encode(statusRows("A", "A"))).get(0).containsKey("dict"));
+	}
+
+	@Test
+	void dictionaryIsDroppedAboveMaxSize() {
+		List<Map<String, Object>> atLimit = new ArrayList<>();
+		List<Map<String, Object>> overLimit = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			atLimit.add(row("CODE", "C" + (i % 256)));
+			overLimit.add(row("CODE", "C" + (i % 257)));
+		}
+
+		Map<String, Object> encoded = ColumnarResult.encode(atLimit);
+		assertEquals(256, ((List<?>) columns(encoded).get(0).get("dict")).size());
+		assertEquals(255, rowsOf(encoded).get(255)[0]);
+
+		Map<String, Object> notEncoded = ColumnarResult.encode(overLimit);
+		assertFalse(columns(notEncoded).get(0).containsKey("dict"));
+		assertEquals("C256", rowsOf(notEncoded).get(256)[0]);
+	}
+
+	@Test
+	void columnsMissingFromFirstRowAreKept() {
+		List<Map<String, Object>> rows = List.of(row("A", 1), row("A", 2, "B", 5L), row("C", 3));
+
+		Map<String, Object> result = ColumnarResult.encode(rows);
+
+		assertEquals(List.of("A", "B", "C"), columnValues(result, "name"));
+		assertEquals(Arrays.asList(1, null, null), Arrays.asList(rowsOf(result).get(0)));
+		assertEquals(Arrays.asList(2, 5L, null), Arrays.asList(rowsOf(result).get(1)));
+		assertEquals(Arrays.asList(null, null, 3), Arrays.asList(rowsOf(result).get(2)));
+	}
+
+	@Test
+	void emptyResultHasNoColumns() {
+		Map<String, Object> result = ColumnarResult.encode(List.of());
+
+		assertEquals(List.of(), result.get("columns"));
+		assertEquals(List.of(), result.get("rows"));
+	}
+
+	@Test
+	void columnarJsonIsSmallerThanRowJson() throws Exception {
+		// JMH 벤치마크 대신, 일반적인 목록 화면 형태의 결과로 응답 크기가 줄어드는지 확인합니다.
+		List<Map<String, Object>> rows = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			rows.add(row("M_CUST_NO", 100_000 + i, "CUST_NAME", "고객" + i, "CUST_STATUS", i % 7 == 0 ? "휴면" : "정상",
+					"CUST_GRADE", "GRADE_" + (i % 5), "REG_DATE", Timestamp.valueOf("2026-03-01 09:00:00")));
+		}
+
+		int rowJson = MAPPER.writeValueAsBytes(rows).length;
+		int columnarJson = MAPPER.writeValueAsBytes(ColumnarResult.encode(rows)).length;
+
+		assertTrue(columnarJson < rowJson * 0.6, "columnar=" + columnarJson + ", rows=" + rowJson);
+	}
+
+	private static List<Map<String, Object>> statusRows(String... statuses) {
+		List<Map<String, Object>> rows = new ArrayList<>();
+		for (String status : statuses) {
+			rows.add(row("STATUS", status));
+		}
+		return rows;
+	}
+
+	private static Map<String, Object> row(Object... keyValues) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		for (int i = 0; i < keyValues.length; i += 2) {
+			row.put((String) keyValues[i], keyValues[i + 1]);
+		}
+		return row;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Map<String, Object>> columns(Map<String, Object> result) {
+		return (List<Map<String, Object>>) result.get("columns");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object[]> rowsOf(Map<String, Object> result) {
+		return (List<Object[]>) result.get("rows");
+	}
+
+	private static List<Object> columnValues(Map<String, Object> result, String key) {
+		return columns(result).stream().map(column -> column.get(key)).toList();
+	}
+}
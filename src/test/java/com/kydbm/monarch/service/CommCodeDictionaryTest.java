@@ -0,0 +1,81 @@
+package com.kydbm.monarch.service;
+
+import com.kydbm.monarch.domain.CommCodeItem;
+import com.kydbm.monarch.repository.MCommCodeRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 공통 코드 사전이 사용 중인 코드가 있는 회원사만 보관하는지 확인합니다.
+ * 클라이언트가 보낸 임의의 회원사 번호마다 빈 항목이 쌓이면 사전이 끝없이 커집니다.
+ */
+class CommCodeDictionaryTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 9, 0);
+	private static final LocalDateTime T1 = LocalDateTime.of(2026, 1, 1, 9, 5);
+
+	private final MCommCodeRepository repository = mock(MCommCodeRepository.class);
+	private final CommCodeDictionary dictionary = new CommCodeDictionary(repository, true);
+
+	@Test
+	void unknownTenantsAfterFullLoadAreNotQueriedOrStored() {
+		when(repository.findAllActiveItems()).thenReturn(List.of(item(1L, "STATUS", "A")));
+		when(repository.findMaxUpdDate()).thenReturn(T0);
+		when(repository.count()).thenReturn(1L);
+		dictionary.reloadAll();
+
+		for (long mUsiteNo = 100; mUsiteNo < 1100; mUsiteNo++) {
+			assertTrue(dictionary.getCodes(mUsiteNo, "STATUS").isEmpty());
+		}
+
+		assertEquals(1L, dictionary.sizes().get("tenants"));
+		assertEquals(1, dictionary.getCodes(1L, "STATUS").size());
+		verify(repository, never()).findActiveItemsByMUsiteNo(anyLong());
+	}
+
+	@Test
+	void emptyTenantsBeforeFullLoadAreNotStored() {
+		when(repository.findActiveItemsByMUsiteNo(1L)).thenReturn(List.of(item(1L, "STATUS", "A")));
+		when(repository.findActiveItemsByMUsiteNo(2L)).thenReturn(List.of());
+
+		assertEquals(1, dictionary.getCodes(1L, "STATUS").size());
+		assertEquals(1, dictionary.getCodes(1L, "STATUS").size());
+		assertTrue(dictionary.getCodes(2L, "STATUS").isEmpty());
+
+		assertEquals(1L, dictionary.sizes().get("tenants"));
+		verify(repository, times(1)).findActiveItemsByMUsiteNo(1L);
+	}
+
+	@Test
+	void tenantWithoutActiveCodesIsRemovedOnPoll() {
+		when(repository.findAllActiveItems()).thenReturn(List.of(item(1L, "STATUS", "A"), item(2L, "STATUS", "B")));
+		when(repository.findMaxUpdDate()).thenReturn(T0);
+		when(repository.count()).thenReturn(2L);
+		dictionary.pollForChanges();
+		assertEquals(2L, dictionary.sizes().get("tenants"));
+
+		// 행 수는 그대로이고 회원사 2의 코드가 모두 사용 중지됨 (USE_FLAG 수정)
+		when(repository.findMaxUpdDate()).thenReturn(T1);
+		when(repository.findUsiteNosUpdatedSince(T0)).thenReturn(List.of(2L));
+		when(repository.findActiveItemsByMUsiteNo(2L)).thenReturn(List.of());
+		dictionary.pollForChanges();
+
+		assertEquals(1L, dictionary.sizes().get("tenants"));
+		assertTrue(dictionary.getCodes(2L, "STATUS").isEmpty());
+	}
+
+	private static CommCodeItem item(Long mUsiteNo, String codeGrp, String codeVal) {
+		return new CommCodeItem(null, codeGrp, codeVal, codeVal, null, null, null, null, 1, null, null, mUsiteNo);
+	}
+}
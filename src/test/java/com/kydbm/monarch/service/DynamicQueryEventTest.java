@@ -0,0 +1,146 @@
+package com.kydbm.monarch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kydbm.monarch.config.DataSourceRegistry;
+import com.kydbm.monarch.config.DbConcurrencyLimiter;
+import com.kydbm.monarch.config.ReplicaRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동적 쿼리 실행이 JFR 녹화 중에 `com.kydbm.monarch.DynamicQuery` 이벤트로 기록되는지 확인합니다.
+ * DB 대신 조회 결과를 돌려주는 JdbcTemplate을 사용합니다.
+ */
+class DynamicQueryEventTest {
+
+	private static final String EVENT_NAME = "com.kydbm.monarch.DynamicQuery";
+
+	@TempDir
+	Path tempDir;
+
+	private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+	private final ServiceMetadataCache serviceMetadataCache = mock(ServiceMetadataCache.class);
+	private DynamicQueryService dynamicQueryService;
+
+	@BeforeEach
+	void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ServiceDefinition service = new ServiceDefinition(Map.of("EXEC_TYPE", "READ", "QUERY_STMT", "SELECT A FROM T WHERE B = @B@"),
+				1L, "ORDER", "READ");
+		when(serviceMetadataCache.getService(1L, "ORDER", "READ")).thenReturn(service);
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+		DataSourceRegistry.Target target = new DataSourceRegistry.Target("default", jdbcTemplate, jdbcTemplate,
+				transactionTemplate, transactionTemplate, new DbConcurrencyLimiter("default", 10, 100, meterRegistry));
+		ReplicaRouter replicaRouter = mock(ReplicaRouter.class);
+		when(replicaRouter.routeRead(any())).thenReturn(target);
+		DataSourceRegistry dataSourceRegistry = mock(DataSourceRegistry.class);
+		when(dataSourceRegistry.resolve(any())).thenReturn(target);
+
+		dynamicQueryService = new DynamicQueryService(serviceMetadataCache, dataSourceRegistry, replicaRouter,
+				new SqlTextStats(meterRegistry, 1000), new QueryResultCache(meterRegistry, 1024 * 1024), new QueryCoalescer(meterRegistry),
+				new QueryBulkhead(meterRegistry, new MockEnvironment(), 200, 0, 0), new QueryMetrics(meterRegistry, new ObjectMapper()),
+				new SlowQueryLog(1000, 20), new ObjectMapper(), meterRegistry, 500, 60);
+	}
+
+	@Test
+	void successfulExecutionIsRecorded() throws Exception {
+		when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class))).thenAnswer(invocation -> {
+			Thread.sleep(20);
+			return List.of(Map.of("A", 1), Map.of("A", 2));
+		});
+
+		List<RecordedEvent> events = record(() -> dynamicQueryService.executeDynamicQuery("ORDER", "READ", 1L, Map.of("B", "x")));
+
+		assertEquals(1, events.size());
+		RecordedEvent event = events.get(0);
+		assertEquals(1L, event.getLong("tenant"));
+		assertEquals("ORDER", event.getString("service"));
+		assertEquals("READ", event.getString("method"));
+		assertEquals("READ", event.getString("execType"));
+		assertEquals(2, event.getInt("rows"));
+		assertTrue(event.getBoolean("success"));
+		assertTrue(event.getDuration("queryTime").compareTo(Duration.ofMillis(20)) >= 0, event.getDuration("queryTime").toString());
+		assertTrue(event.getDuration().compareTo(event.getDuration("queryTime")) >= 0);
+	}
+
+	@Test
+	void failedExecutionIsRecorded() throws Exception {
+		when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class))).thenThrow(new IllegalStateException("ORA-00942"));
+
+		List<RecordedEvent> events = record(() -> assertThrows(RuntimeException.class,
+				() -> dynamicQueryService.executeDynamicQuery("ORDER", "READ", 1L, Map.of("B", "x"))));
+
+		assertEquals(1, events.size());
+		assertFalse(events.get(0).getBoolean("success"));
+		assertEquals("ORDER", events.get(0).getString("service"));
+	}
+
+	@Test
+	void unknownServiceIsRecordedWithRequestedName() throws Exception {
+		List<RecordedEvent> events = record(() -> assertThrows(IllegalArgumentException.class,
+				() -> dynamicQueryService.executeDynamicQuery("MISSING", "LIST", 1L, Map.of())));
+
+		assertEquals(1, events.size());
+		assertEquals("MISSING", events.get(0).getString("service"));
+		assertNull(events.get(0).getString("execType"));
+		assertFalse(events.get(0).getBoolean("success"));
+	}
+
+	@Test
+	void readOnlyExecutionRejectsWriteService() throws Exception {
+		ServiceDefinition write = new ServiceDefinition(Map.of("EXEC_TYPE", "INSERT", "QUERY_STMT", "INSERT INTO T (A) VALUES (@A@)"),
+				1L, "ORDER", "SAVE");
+		when(serviceMetadataCache.getService(1L, "ORDER", "SAVE")).thenReturn(write);
+
+		List<RecordedEvent> events = record(() -> assertThrows(IllegalArgumentException.class,
+				() -> dynamicQueryService.executeReadQuery("ORDER", "SAVE", 1L, Map.of("A", "x"))));
+
+		verifyNoInteractions(jdbcTemplate);
+		assertEquals(1, events.size());
+		assertEquals("INSERT", events.get(0).getString("execType"));
+		assertFalse(events.get(0).getBoolean("success"));
+	}
+
+	/** 이벤트만 켠 녹화 중에 작업을 실행하고, 녹화 파일에서 동적 쿼리 이벤트를 읽습니다. */
+	private List<RecordedEvent> record(Runnable action) throws Exception {
+		Path file = tempDir.resolve("query.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+			recording.start();
+			action.run();
+			recording.stop();
+			recording.dump(file);
+		}
+		return RecordingFile.readAllEvents(file).stream()
+				.filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+				.collect(Collectors.toList());
+	}
+}
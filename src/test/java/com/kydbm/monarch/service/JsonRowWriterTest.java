@@ -0,0 +1,230 @@
+package com.kydbm.monarch.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JsonRowWriter가 행을 모으지 않고 읽는 즉시 기존 응답(queryForList)과 같은 JSON으로 기록하는지 확인합니다.
+ */
+class JsonRowWriterTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	@Test
+	void writesSameJsonAsQueryForList() throws Exception {
+		List<Map<String, Object>> rows = List.of(
+				row(1, "홍길동", new BigDecimal("12.50")),
+				row(2, null, BigDecimal.ZERO));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		JsonRowWriter writer = writeAll(out, new FakeResultSet(rows), Integer.MAX_VALUE, null);
+
+		assertEquals(MAPPER.writeValueAsString(rows), out.toString("UTF-8"));
+		assertEquals(2, writer.getRowCount());
+	}
+
+	@Test
+	void countsRowsBeyondMaxRowsWithoutWritingThem() throws Exception {
+		List<Map<String, Object>> rows = List.of(row(1, "A", BigDecimal.ONE), row(2, "B", BigDecimal.ONE), row(3, "C", BigDecimal.ONE));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		JsonRowWriter writer = writeAll(out, new FakeResultSet(rows), 2, null);
+
+		assertEquals(MAPPER.writeValueAsString(rows.subList(0, 2)), out.toString("UTF-8"));
+		assertEquals(3, writer.getRowCount());
+	}
+
+	@Test
+	void hiddenColumnIsKeptOutOfResponse() throws Exception {
+		List<Map<String, Object>> rows = List.of(
+				withTotal(row(1, "A", BigDecimal.ONE), 120),
+				withTotal(row(2, "B", BigDecimal.ONE), 120));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		JsonRowWriter writer = writeAll(out, new FakeResultSet(rows), Integer.MAX_VALUE, "_total_count");
+
+		assertEquals("[{\"M_USER_NO\":1,\"USER_NAME\":\"A\",\"AMOUNT\":1},{\"M_USER_NO\":2,\"USER_NAME\":\"B\",\"AMOUNT\":1}]",
+				out.toString("UTF-8"));
+		assertEquals(120, writer.getHiddenValue());
+		assertNull(writeAll(new ByteArrayOutputStream(), new FakeResultSet(List.of()), 10, "_TOTAL_COUNT").getHiddenValue());
+	}
+
+	@Test
+	void rowsReachOutputWhileResultSetIsStillBeingRead() throws Exception {
+		CountingOutputStream out = new CountingOutputStream();
+		JsonGenerator generator = MAPPER.createGenerator(out, JsonEncoding.UTF8);
+		JsonRowWriter writer = new JsonRowWriter(generator, Integer.MAX_VALUE, null);
+		FakeResultSet rs = new FakeResultSet(List.of(row(0, "x".repeat(100), BigDecimal.ONE)));
+
+		generator.writeStartArray();
+		long bytesAfterFirstThousand = 0;
+		for (int i = 0; i < 10_000; i++) {
+			writer.processRow(rs.proxy());
+			if (i == 999) {
+				bytesAfterFirstThousand = out.count;
+			}
+		}
+		long beforeFlush = out.count;
+		generator.writeEndArray();
+		generator.flush();
+
+		// 출력 버퍼(기본 8KB)보다 많은 데이터는 마지막 행을 기다리지 않고 이미 스트림으로 나가 있어야 합니다.
+		assertTrue(bytesAfterFirstThousand > 100_000, "bytes after 1000 rows: " + bytesAfterFirstThousand);
+		assertTrue(out.count - beforeFlush < 16 * 1024, "buffered bytes: " + (out.count - beforeFlush));
+	}
+
+	@Test
+	void heapStaysFlatForLargeResults() throws Exception {
+		// 약 200MB의 JSON을 기록하는 동안 늘어난 힙이 결과 크기에 비례하지 않는지 대략적으로 확인합니다.
+		int rowCount = 200_000;
+		FakeResultSet rs = new FakeResultSet(List.of(row(0, "x".repeat(1000), new BigDecimal("123.45"))));
+		CountingOutputStream out = new CountingOutputStream();
+		JsonGenerator generator = MAPPER.createGenerator(out, JsonEncoding.UTF8);
+		JsonRowWriter writer = new JsonRowWriter(generator, Integer.MAX_VALUE, null);
+		long baseline = usedHeapAfterGc();
+		long peak = 0;
+
+		generator.writeStartArray();
+		for (int i = 0; i < rowCount; i++) {
+			writer.processRow(rs.proxy());
+			if (i % 50_000 == 49_999) {
+				peak = Math.max(peak, usedHeapAfterGc() - baseline);
+			}
+		}
+		generator.writeEndArray();
+		generator.flush();
+
+		assertTrue(out.count > 200_000_000L, "written bytes: " + out.count);
+		assertTrue(peak < 32L * 1024 * 1024, "retained heap while streaming: " + peak);
+	}
+
+	@Test
+	void outputFailureIsRethrownUnchecked() throws Exception {
+		OutputStream closed = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+		};
+		JsonGenerator generator = MAPPER.createGenerator(closed, JsonEncoding.UTF8);
+		JsonRowWriter writer = new JsonRowWriter(generator, Integer.MAX_VALUE, null);
+		FakeResultSet rs = new FakeResultSet(List.of(row(0, "x".repeat(1000), BigDecimal.ONE)));
+
+		assertThrows(UncheckedIOException.class, () -> {
+			for (int i = 0; i < 100; i++) {
+				writer.processRow(rs.proxy());
+			}
+		});
+	}
+
+	private static JsonRowWriter writeAll(OutputStream out, FakeResultSet rs, int maxRows, String hiddenColumn) throws Exception {
+		JsonGenerator generator = MAPPER.createGenerator(out, JsonEncoding.UTF8);
+		JsonRowWriter writer = new JsonRowWriter(generator, maxRows, hiddenColumn);
+		generator.writeStartArray();
+		while (rs.next()) {
+			writer.processRow(rs.proxy());
+		}
+		generator.writeEndArray();
+		generator.flush();
+		return writer;
+	}
+
+	private static long usedHeapAfterGc() {
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static Map<String, Object> row(int no, String name, BigDecimal amount) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("M_USER_NO", no);
+		row.put("USER_NAME", name);
+		row.put("AMOUNT", amount);
+		return row;
+	}
+
+	private static Map<String, Object> withTotal(Map<String, Object> row, int total) {
+		row.put("_TOTAL_COUNT", total);
+		return row;
+	}
+
+	/** 주어진 행을 차례로 돌려주는 최소한의 ResultSet. (행이 하나뿐이면 같은 행을 계속 반환합니다.) */
+	private static final class FakeResultSet {
+
+		private final List<Map<String, Object>> rows;
+		private final List<String> columns;
+		private final ResultSet proxy;
+		private int index;
+
+		FakeResultSet(List<Map<String, Object>> rows) {
+			this.rows = rows;
+			this.columns = rows.isEmpty() ? List.of() : List.copyOf(rows.get(0).keySet());
+			this.index = rows.size() == 1 ? 0 : -1;
+			this.proxy = createProxy();
+		}
+
+		boolean next() {
+			return ++index < rows.size();
+		}
+
+		ResultSet proxy() {
+			return proxy;
+		}
+
+		private ResultSet createProxy() {
+			ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[] {ResultSetMetaData.class}, (p, method, args) -> switch (method.getName()) {
+						case "getColumnCount" -> columns.size();
+						case "getColumnLabel", "getColumnName" -> columns.get((Integer) args[0] - 1);
+						default -> throw new SQLException("Unsupported: " + method.getName());
+					});
+			return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[] {ResultSet.class}, (p, method, args) -> switch (method.getName()) {
+						case "getMetaData" -> metaData;
+						case "getObject" -> rows.get(index).get(columns.get((Integer) args[0] - 1));
+						case "wasNull" -> false;
+						default -> throw new SQLException("Unsupported: " + method.getName());
+					});
+		}
+	}
+
+	private static final class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package com.kydbm.monarch.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * KEYSET_KEY 해석, seek 조건 SQL, 커서 토큰의 인코딩/디코딩과 변조된 커서 거절을 확인합니다.
+ */
+class KeysetKeyTest {
+
+	private static final KeysetKey DATE_THEN_NO = KeysetKey.parse("REG_DATE DESC, m_cust_no");
+
+	@Test
+	void parsesDeclaration() {
+		assertEquals(List.of(new KeysetKey.Column("REG_DATE", true), new KeysetKey.Column("M_CUST_NO", false)),
+				DATE_THEN_NO.getColumns());
+		assertEquals("k.REG_DATE DESC, k.M_CUST_NO ASC", DATE_THEN_NO.orderBy("k"));
+		assertNull(KeysetKey.parse(null));
+		assertNull(KeysetKey.parse("  "));
+	}
+
+	@Test
+	void rejectsInvalidDeclaration() {
+		for (String declaration : List.of("A DESC NULLS LAST", "A; DROP TABLE T", "A UP", "A,,B", "T.A")) {
+			assertThrows(IllegalArgumentException.class, () -> KeysetKey.parse(declaration), declaration);
+		}
+	}
+
+	@Test
+	void singleColumnSeekPredicateHasNoLeadingBound() {
+		assertEquals("(k.M_CUST_NO > :_k0)", KeysetKey.parse("M_CUST_NO").seekPredicate("k"));
+		assertEquals("(k.M_CUST_NO < :_k0)", KeysetKey.parse("M_CUST_NO DESC").seekPredicate("k"));
+	}
+
+	@Test
+	void multiColumnSeekPredicateHasLeadingBound() {
+		assertEquals("k.REG_DATE <= :_k0 AND ((k.REG_DATE < :_k0) OR (k.REG_DATE = :_k0 AND k.M_CUST_NO > :_k1))",
+				DATE_THEN_NO.seekPredicate("k"));
+		assertEquals("k.A >= :_k0 AND ((k.A > :_k0) OR (k.A = :_k0 AND k.B < :_k1) OR (k.A = :_k0 AND k.B = :_k1 AND k.C > :_k2))",
+				KeysetKey.parse("A, B DESC, C ASC").seekPredicate("k"));
+	}
+
+	@Test
+	void cursorKeepsValueTypesWithPrefixes() {
+		KeysetKey key = KeysetKey.parse("A, B, C, D");
+		Map<String, Object> row = new HashMap<>();
+		row.put("A", 42);
+		row.put("B", new BigDecimal("1.50"));
+		row.put("C", "N123");
+		row.put("D", 7L);
+
+		String cursor = key.encodeCursor(row);
+
+		assertEquals("[\"N42\",\"N1.50\",\"SN123\",\"N7\"]", decodeRaw(cursor));
+		assertEquals(List.of(new BigDecimal("42"), new BigDecimal("1.50"), "N123", new BigDecimal("7")), key.decodeCursor(cursor));
+	}
+
+	@Test
+	void timestampRoundTripKeepsNanos() {
+		Timestamp regDate = Timestamp.valueOf("2026-03-01 13:45:10.123456789");
+		Map<String, Object> row = new HashMap<>();
+		row.put("REG_DATE", regDate);
+		row.put("M_CUST_NO", 1001);
+
+		String cursor = DATE_THEN_NO.encodeCursor(row);
+
+		assertEquals("[\"T2026-03-01 13:45:10.123456789\",\"N1001\"]", decodeRaw(cursor));
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("_k0", regDate);
+		expected.put("_k1", new BigDecimal("1001"));
+		assertEquals(expected, DATE_THEN_NO.cursorBinds(cursor));
+	}
+
+	@Test
+	void dateIsEncodedAsTimestamp() {
+		java.util.Date regDate = new java.util.Date(Timestamp.valueOf("2026-03-01 13:45:10").getTime());
+		Map<String, Object> row = new HashMap<>();
+		row.put("REG_DATE", regDate);
+		row.put("M_CUST_NO", 1);
+
+		assertEquals(Timestamp.valueOf("2026-03-01 13:45:10"), DATE_THEN_NO.decodeCursor(DATE_THEN_NO.encodeCursor(row)).get(0));
+	}
+
+	@Test
+	void nullKeyValueCannotBeEncoded() {
+		Map<String, Object> row = new HashMap<>();
+		row.put("REG_DATE", null);
+		row.put("M_CUST_NO", 1);
+
+		assertThrows(IllegalStateException.class, () -> DATE_THEN_NO.encodeCursor(row));
+	}
+
+	@Test
+	void rejectsMalformedOrTamperedCursor() {
+		List<String> cursors = List.of(
+				"not base64!",
+				encodeRaw("{\"a\":1}"),
+				encodeRaw("[\"N1\"]"),
+				encodeRaw("[\"N1\",\"N2\",\"N3\"]"),
+				encodeRaw("[\"Tyesterday\",\"N1\"]"),
+				encodeRaw("[\"T2026-03-01 13:45:10\",\"N1 OR 1=1\"]"),
+				encodeRaw("[\"X1\",\"N1\"]"),
+				encodeRaw("[\"\",\"N1\"]"),
+				encodeRaw("[null,\"N1\"]"),
+				encodeRaw("null"));
+		for (String cursor : cursors) {
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> DATE_THEN_NO.decodeCursor(cursor), cursor);
+			assertEquals("Invalid cursor parameter.", e.getMessage());
+		}
+		assertThrows(IllegalArgumentException.class, () -> DATE_THEN_NO.decodeCursor(null));
+	}
+
+	private static String decodeRaw(String cursor) {
+		return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+	}
+
+	private static String encodeRaw(String json) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
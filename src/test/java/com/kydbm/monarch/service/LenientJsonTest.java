@@ -0,0 +1,268 @@
+package com.kydbm.monarch.service;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * LenientJson이 확장 문법을 표준 JSON으로 변환하는지, 오류 위치를 알려 주는지 확인합니다.
+ * 실제 화면 구성 형식의 예시는 기존 정규식 정리 결과(클라이언트가 JavaScript로 해석하던 값)와 같은 값이 되는지 비교합니다.
+ */
+class LenientJsonTest {
+
+	/** 표준 JSON만 허용하는 파서 (변환 결과 검증용) */
+	private static final ObjectMapper STRICT = new ObjectMapper();
+
+	/** 기존 정규식 정리 결과를 JavaScript와 같은 규칙(따옴표 없는 키, 작은따옴표, 주석 등)으로 읽는 파서 */
+	private static final ObjectMapper JS_LIKE = JsonMapper.builder()
+			.enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES, JsonReadFeature.ALLOW_SINGLE_QUOTES,
+					JsonReadFeature.ALLOW_JAVA_COMMENTS, JsonReadFeature.ALLOW_TRAILING_COMMA)
+			.build();
+
+	private static final List<Case> COMMENTS = List.of(
+			new Case("{a: 1, // 주석\n b: 2}", "{\"a\":1,\"b\":2}"),
+			new Case("{a: 1 // 쉼표 앞 주석\n, b: 2}", "{\"a\":1,\"b\":2}"),
+			new Case("/* 머리 */ {a: /* 값 앞 */ 1} // 끝", "{\"a\":1}"),
+			new Case("[1, /* 여러\n줄 */ 2]", "[1,2]"),
+			new Case("{url: \"http://example.com/a\", b: 1}", "{\"url\":\"http://example.com/a\",\"b\":1}"),
+			new Case("{url: 'https://x/*y*/z'}", "{\"url\":\"https://x/*y*/z\"}"),
+			new Case("{\"a//b\": \"c\"}", "{\"a//b\":\"c\"}"));
+
+	private static final List<Case> STRINGS = List.of(
+			new Case("{'k': 'v'}", "{\"k\":\"v\"}"),
+			new Case("{s: 'say \"hi\"'}", "{\"s\":\"say \\\"hi\\\"\"}"),
+			new Case("{s: 'it\\'s'}", "{\"s\":\"it's\"}"),
+			new Case("{s: \"it's\"}", "{\"s\":\"it's\"}"),
+			new Case("{s: \"a\\\"b\\\\c\\/d\"}", "{\"s\":\"a\\\"b\\\\c\\/d\"}"),
+			new Case("{s: '\\u00e9\\n'}", "{\"s\":\"\\u00e9\\n\"}"),
+			new Case("{s: 'a\tb'}", "{\"s\":\"a\\tb\"}"),
+			new Case("{s: 'a\\\nb'}", "{\"s\":\"ab\"}"),
+			new Case("{s: 'a\\\r\nb'}", "{\"s\":\"ab\"}"),
+			new Case("{s: 'a\\\u2028b'}", "{\"s\":\"ab\"}"),
+			new Case("{s: 'a\\0b'}", "{\"s\":\"a\\u0000b\"}"),
+			new Case("{s: '\\q'}", "{\"s\":\"q\"}"));
+
+	private static final List<Case> COMMAS = List.of(
+			new Case("[1, 2,]", "[1,2]"),
+			new Case("[1,, 2]", "[1,2]"),
+			new Case("[, 1]", "[1]"),
+			new Case("[,]", "[]"),
+			new Case("{a: 1,}", "{\"a\":1}"),
+			new Case("{a: 1,, b: 2,,}", "{\"a\":1,\"b\":2}"),
+			new Case("{,}", "{}"),
+			new Case("{a: [1,], b: {c: 2,},}", "{\"a\":[1],\"b\":{\"c\":2}}"));
+
+	private static final List<Case> KEYS = List.of(
+			new Case("{service: 'ORDER'}", "{\"service\":\"ORDER\"}"),
+			new Case("{$id: 1, _x: 2, a1: 3}", "{\"$id\":1,\"_x\":2,\"a1\":3}"),
+			new Case("{한글: 1}", "{\"한글\":1}"),
+			new Case("{1: 'A', 20: 'B'}", "{\"1\":\"A\",\"20\":\"B\"}"),
+			new Case("{\"quoted\": 1, 'single': 2}", "{\"quoted\":1,\"single\":2}"));
+
+	private static final List<Case> NUMBERS = List.of(
+			new Case("[0x1F, 0XfF, -0x10, +0x1]", "[31,255,-16,1]"),
+			new Case("[.5, -.5, +.5]", "[0.5,-0.5,0.5]"),
+			new Case("[5., -5.]", "[5,-5]"),
+			new Case("[+1, -1, +0]", "[1,-1,0]"),
+			new Case("[007, 00, -010, 00.5]", "[7,0,-10,0.5]"),
+			new Case("[0, -0.50, 1e3, 1.5E-2, 2e+1, .5e1]", "[0,-0.50,1e3,1.5e-2,2e+1,0.5e1]"));
+
+	private static final List<Case> LITERALS = List.of(
+			new Case("{a: undefined, b: [undefined]}", "{\"a\":null,\"b\":[null]}"),
+			new Case("[true, false, null]", "[true,false,null]"),
+			new Case("\uFEFF \u00A0{a: 1}\n", "{\"a\":1}"),
+			new Case("'root'", "\"root\""));
+
+	/** 입력, 오류 메시지 (위치 포함) */
+	private static final List<Case> ERRORS = List.of(
+			new Case("{a: 1 b: 2}", "Expected ',' or '}' at position 6"),
+			new Case("[1 2]", "Expected ',' or ']' at position 3"),
+			new Case("{a 1}", "Expected ':' at position 3"),
+			new Case("{a: function(v) { return v; }}", "Unsupported value 'function' at position 4"),
+			new Case("{a: NaN}", "Unsupported value 'NaN' at position 4"),
+			new Case("{a: -Infinity}", "Unsupported value (Infinity/NaN) at position 5"),
+			new Case("{a: 0x}", "Invalid hexadecimal number at position 6"),
+			new Case("{a: 1e}", "Invalid number exponent at position 6"),
+			new Case("{a: .}", "Invalid number at position 5"),
+			new Case("{a: 'x}", "Unterminated string at position 7"),
+			new Case("{s: '\\u12'}", "Invalid unicode escape at position 7"),
+			new Case("[1, 2", "Unterminated array at position 5"),
+			new Case("{a: 1", "Unterminated object at position 5"),
+			new Case("{a: 1 /* x", "Unterminated comment at position 6"),
+			new Case("{a: 1} x", "Unexpected content after the root value at position 7"),
+			new Case("{a: @}", "Unexpected character '@' at position 4"),
+			new Case("{-a: 1}", "Expected object key at position 1"),
+			new Case("", "Unexpected end of input at position 0"),
+			new Case("[".repeat(600), "Nesting too deep at position 513"));
+
+	@Test
+	void commentsAreRemovedOnlyOutsideStrings() {
+		assertConverts(COMMENTS);
+	}
+
+	@Test
+	void stringsAreConvertedToDoubleQuotedJson() {
+		assertConverts(STRINGS);
+	}
+
+	@Test
+	void trailingAndDoubledCommasAreSkipped() {
+		assertConverts(COMMAS);
+	}
+
+	@Test
+	void unquotedAndNumericKeysAreQuoted() {
+		assertConverts(KEYS);
+	}
+
+	@Test
+	void numbersAreConvertedToJsonNumbers() {
+		assertConverts(NUMBERS);
+	}
+
+	@Test
+	void literalsAndWhitespace() {
+		assertConverts(LITERALS);
+	}
+
+	@Test
+	void errorsReportPosition() {
+		for (Case c : ERRORS) {
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> LenientJson.toStrictJson(c.input()),
+					c.input());
+			assertEquals(c.expected(), e.getMessage(), c.input());
+		}
+	}
+
+	@Test
+	void structureSamplesMatchLegacyRegexResult() throws Exception {
+		for (String sample : STRUCTURE_SAMPLES) {
+			String converted = LenientJson.toStrictJson(sample);
+
+			assertEquals(JS_LIKE.readTree(legacyNormalize(sample)), STRICT.readTree(converted), sample);
+		}
+	}
+
+	@Test
+	void lineCommentNoLongerSwallowsFollowingMembers() throws Exception {
+		String sample = "{\n  title: '주문', // 화면 제목\n  service: 'ORDER'\n}";
+
+		JsonNode converted = STRICT.readTree(LenientJson.toStrictJson(sample));
+
+		assertEquals("ORDER", converted.get("service").asText());
+		// 기존 정규식은 줄바꿈을 공백으로 바꾸어, 줄 주석이 뒤의 멤버와 닫는 괄호까지 주석으로 만들었습니다.
+		assertEquals("{ title: '주문', // 화면 제목 service: 'ORDER' }", legacyNormalize(sample));
+	}
+
+	@Test
+	void commentMarkerInsideStringWasBrokenByLegacyRegex() throws Exception {
+		String sample = "{\"title\": \"도움말\", \"help\": \"https://help.example.com/order\", \"service\": \"ORDER\"}";
+
+		JsonNode converted = STRICT.readTree(LenientJson.toStrictJson(sample));
+
+		assertEquals("https://help.example.com/order", converted.get("help").asText());
+		assertEquals("ORDER", converted.get("service").asText());
+		// 기존 정규식은 "https:" 뒤의 "//..."를 다음 쉼표까지 주석으로 보고 지웠습니다.
+		assertNotEquals(sample, legacyNormalize(sample));
+		assertThrows(Exception.class, () -> JS_LIKE.readTree(legacyNormalize(sample)));
+	}
+
+	private static void assertConverts(List<Case> cases) {
+		for (Case c : cases) {
+			String converted = LenientJson.toStrictJson(c.input());
+
+			assertEquals(c.expected(), converted, c.input());
+			try {
+				STRICT.readTree(converted);
+			} catch (Exception e) {
+				throw new AssertionError("Not strict JSON: " + converted + " (input: " + c.input() + ")", e);
+			}
+		}
+	}
+
+	/** user-022 이전 `StructureDefinition.normalize`의 정규식 정리 */
+	private static String legacyNormalize(String structureContString) {
+		structureContString = structureContString.replaceAll("//.*?(?=,|\\}|\\])", "");
+		structureContString = structureContString.replaceAll(",\\s*,+", ",");
+		structureContString = structureContString.replaceAll(",(\\s*})", "$1");
+		structureContString = structureContString.replaceAll(",(\\s*])", "$1");
+		return structureContString.replaceAll("\\s+", " ").trim();
+	}
+
+	/** M_STRUCTURE.STRUCTURE_CONT 형식의 예시 (DynamicGridWidget의 StructureConfig) */
+	private static final List<String> STRUCTURE_SAMPLES = List.of(
+			"""
+			{
+			    title: '주문 목록',
+			    service: 'ORDER',
+			    method: 'LIST',
+			    keyName: 'ORDER_NO',
+			    order: 'ORDER_DT DESC',
+			    colgroup: [
+			        {index: 'ORDER_NO', Width: '120'},
+			        {index: 'ORDER_DT', Width: '100'},
+			    ],
+			    filterView: [
+			        {TD: [
+			            {label: '주문일자', field: 'ORDER_DT', type: 'dateBetween'},
+			            {label: '상태', field: 'STATUS', type: 'select', codeGroup: 'ORDER_STATUS'}, /* 공통 코드 */
+			        ]},
+			    ],
+			    colModel: [
+			        {label: '주문번호', field: 'ORDER_NO', align: 'center', mobileImp: 'true'},
+			        {label: '주문일자', field: 'ORDER_DT', type: 'date'},
+			        {label: '금액', field: 'AMOUNT', type: 'number', align: 'right'},
+			        {label: '상태', field: 'STATUS', chip: true}, /* 상태는 Chip으로 표시 */
+			    ],
+			    buttons: [
+			        {label: '조회', index: 'search', inComm: 'List'},
+			        {label: '초기화', index: 'reset', inComm: 'initialize', mobileAllow: false},,
+			    ]
+			}
+			""",
+			"""
+			{
+			  "title": "사용자 관리",
+			  "service": "M_USER",
+			  "method": "LIST",
+			  "keyName": "M_USER_NO",
+			  "order": "USER_CODE",
+			  "filterView": [
+			    {"label": "아이디", "field": "USER_CODE", "type": "text"},
+			    {"label": "사용여부", "field": "USE_FLAG", "type": "select", "codeGroup": "USE_FLAG"},
+			  ],
+			  "colModel": [
+			    {"label": "아이디", "field": "USER_CODE", "labelAlign": "center"},
+			    {"label": "이름", "field": "USER_NAME"},
+			    {"label": "가입일", "field": "REG_DT", "type": "date"},
+			  ],
+			}
+			""",
+			"""
+			{
+			    /* 공통 코드 관리 화면 */
+			    title: '공통 코드',
+			    service: 'M_COMM_CODE', method: 'LIST',
+			    keyName: 'CODE', order: 'CODE_GRP, SORT_SEQ',
+			    filterView: [
+			        {TD: [{label: '코드 그룹', field: 'CODE_GRP', colspan: 2}, {label: '코드명', field: 'CODE_NAME'}]},
+			    ],
+			    colModel: [
+			        {label: '그룹', field: 'CODE_GRP', mobileImp: true},
+			        {label: '코드', field: 'CODE', align: 'center'},
+			        {label: '순서', field: 'SORT_SEQ', type: 'number', align: 'right'},
+			    ],
+			}
+			""");
+
+	private record Case(String input, String expected) {
+	}
+}
@@ -0,0 +1,139 @@
+package com.kydbm.monarch.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * PARAM_SCHEMA 해석과 선언된 타입별 바인딩 값/JDBC 타입, 잘못된 입력의 400 처리, 선언되지 않은 파라미터의 처리를 확인합니다.
+ */
+class ParamSchemaTest {
+
+	private static final ParamSchema SCHEMA = ParamSchema.parse("""
+			AMOUNT:NUMBER; M_USER_NO:INTEGER
+			REG_DATE:DATE; YMD:DATE:yyyyMMdd
+			UPD_DATE:TIMESTAMP; DAY_START:TIMESTAMP:yyyy-MM-dd
+			USER_NAME:VARCHAR
+			""");
+
+	@Test
+	void numberIsBoundAsBigDecimal() {
+		MapSqlParameterSource parameters = bind("AMOUNT", " 123.450 ");
+
+		assertEquals(new BigDecimal("123.450"), parameters.getValue("AMOUNT"));
+		assertEquals(Types.NUMERIC, parameters.getSqlType("AMOUNT"));
+		assertEquals(new BigDecimal("-1E+3"), bind("AMOUNT", "-1E+3").getValue("AMOUNT"));
+	}
+
+	@Test
+	void integerIsBoundAsLong() {
+		assertEquals(42L, bind("M_USER_NO", "42").getValue("M_USER_NO"));
+		assertEquals(7L, bind("M_USER_NO", 7).getValue("M_USER_NO"));
+		assertEquals(Types.BIGINT, bind("M_USER_NO", "42").getSqlType("M_USER_NO"));
+	}
+
+	@Test
+	void dateIsBoundAsTimestampAtStartOfDay() {
+		MapSqlParameterSource parameters = bind("REG_DATE", "2026-03-01");
+
+		assertEquals(Timestamp.valueOf("2026-03-01 00:00:00"), parameters.getValue("REG_DATE"));
+		assertEquals(Types.DATE, parameters.getSqlType("REG_DATE"));
+		assertEquals(Timestamp.valueOf("2026-03-01 00:00:00"), bind("YMD", "20260301").getValue("YMD"));
+	}
+
+	@Test
+	void timestampUsesDeclaredFormat() {
+		MapSqlParameterSource parameters = bind("UPD_DATE", "2026-03-01 13:45:10");
+
+		assertEquals(Timestamp.valueOf("2026-03-01 13:45:10"), parameters.getValue("UPD_DATE"));
+		assertEquals(Types.TIMESTAMP, parameters.getSqlType("UPD_DATE"));
+		// 날짜만 있는 포맷이면 그날 0시로 바인딩합니다.
+		assertEquals(Timestamp.valueOf("2026-03-01 00:00:00"), bind("DAY_START", "2026-03-01").getValue("DAY_START"));
+		// 이미 날짜 객체이면 포맷과 관계없이 그대로 사용합니다.
+		java.util.Date date = new java.util.Date(Timestamp.valueOf("2026-03-01 09:30:00").getTime());
+		assertEquals(Timestamp.valueOf("2026-03-01 09:30:00"), bind("UPD_DATE", date).getValue("UPD_DATE"));
+	}
+
+	@Test
+	void varcharIsBoundAsString() {
+		MapSqlParameterSource parameters = bind("USER_NAME", 123);
+
+		assertEquals("123", parameters.getValue("USER_NAME"));
+		assertEquals(Types.VARCHAR, parameters.getSqlType("USER_NAME"));
+	}
+
+	@Test
+	void blankValueIsBoundAsTypedNull() {
+		for (String name : List.of("AMOUNT", "M_USER_NO", "REG_DATE", "UPD_DATE", "USER_NAME")) {
+			MapSqlParameterSource parameters = bind(name, "  ");
+			assertTrue(parameters.hasValue(name), name);
+			assertNull(parameters.getValue(name), name);
+		}
+		assertEquals(Types.DATE, bind("REG_DATE", null).getSqlType("REG_DATE"));
+	}
+
+	@Test
+	void invalidValueIsRejectedAsBadRequest() {
+		String[][] cases = {
+				{"AMOUNT", "12a", "expected NUMBER"},
+				{"M_USER_NO", "1.5", "expected INTEGER"},
+				{"REG_DATE", "2026/03/01", "expected DATE yyyy-MM-dd"},
+				{"REG_DATE", "2026-13-01", "expected DATE yyyy-MM-dd"},
+				{"YMD", "2026-03-01", "expected DATE yyyyMMdd"},
+				{"UPD_DATE", "2026-03-01T13:45:10", "expected TIMESTAMP yyyy-MM-dd HH:mm:ss"},
+		};
+		for (String[] c : cases) {
+			InvalidQueryParameterException e = assertThrows(InvalidQueryParameterException.class, () -> bind(c[0], c[1]), c[0] + "=" + c[1]);
+			assertEquals("Invalid value for parameter " + c[0] + " (" + c[2] + ")", e.getMessage());
+		}
+		assertEquals(HttpStatus.BAD_REQUEST, InvalidQueryParameterException.class.getAnnotation(ResponseStatus.class).value());
+	}
+
+	@Test
+	void undeclaredParameterIsBoundAsIs() {
+		MapSqlParameterSource parameters = new MapSqlParameterSource();
+		SCHEMA.bind(parameters, "KEYWORD", "12a");
+
+		assertFalse(SCHEMA.isTyped("KEYWORD"));
+		assertEquals("12a", parameters.getValue("KEYWORD"));
+		assertEquals(SqlParameterSource.TYPE_UNKNOWN, parameters.getSqlType("KEYWORD"));
+	}
+
+	@Test
+	void emptySchemaBindsEverythingAsIs() {
+		for (String declaration : new String[] {null, "", " ;\n "}) {
+			ParamSchema schema = ParamSchema.parse(declaration);
+			MapSqlParameterSource parameters = new MapSqlParameterSource();
+			schema.bind(parameters, "AMOUNT", "12a");
+
+			assertFalse(schema.isTyped("AMOUNT"));
+			assertEquals("12a", parameters.getValue("AMOUNT"));
+		}
+	}
+
+	@Test
+	void rejectsInvalidDeclaration() {
+		assertThrows(IllegalArgumentException.class, () -> ParamSchema.parse("AMOUNT"));
+		assertThrows(IllegalArgumentException.class, () -> ParamSchema.parse("AMOUNT:MONEY"));
+		assertThrows(IllegalArgumentException.class, () -> ParamSchema.parse("REG_DATE:DATE:yyyy-MM-dd{"));
+	}
+
+	private static MapSqlParameterSource bind(String name, Object value) {
+		MapSqlParameterSource parameters = new MapSqlParameterSource();
+		SCHEMA.bind(parameters, name, value);
+		return parameters;
+	}
+}
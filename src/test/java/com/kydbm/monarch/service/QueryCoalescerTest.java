@@ -0,0 +1,142 @@
+package com.kydbm.monarch.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동시 요청 병합, 기다리는 호출의 제한 시간과 취소, 먼저 실행한 요청이 취소되었을 때의 재실행을 확인합니다.
+ */
+class QueryCoalescerTest {
+
+	private static final QueryKey KEY = new QueryKey(1L, "SVC", "LIST", "SELECT 1 FROM DUAL", Map.of());
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private final QueryCoalescer coalescer = new QueryCoalescer(new SimpleMeterRegistry());
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void identicalCallsShareOneExecution() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+		List<Map<String, Object>> rows = List.of(Map.of("A", 1));
+		Future<List<Map<String, Object>>> leader = startLeader(release, () -> {
+			loads.incrementAndGet();
+			return rows;
+		});
+
+		Future<List<Map<String, Object>>> follower = executor.submit(() -> coalescer.execute(KEY, TIMEOUT, () -> {
+			loads.incrementAndGet();
+			return List.of();
+		}));
+		Thread.sleep(200);
+		release.countDown();
+
+		assertSame(rows, leader.get(5, TimeUnit.SECONDS));
+		assertSame(rows, follower.get(5, TimeUnit.SECONDS));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void followerStopsWaitingAfterTimeout() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		startLeader(release, List::of);
+
+		long started = System.nanoTime();
+		assertThrows(QueryTimedOutException.class, () -> coalescer.execute(KEY, Duration.ofMillis(300), List::of));
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+		release.countDown();
+
+		assertTrue(elapsedMs >= 300 && elapsedMs < 2000, "waited " + elapsedMs + "ms");
+	}
+
+	@Test
+	void cancelledFollowerStopsWaiting() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		startLeader(release, List::of);
+
+		QueryCancellation cancellation = new QueryCancellation();
+		Future<List<Map<String, Object>>> follower = executor.submit(() -> cancellation.run(() -> coalescer.execute(KEY, TIMEOUT, List::of)));
+		Thread.sleep(200);
+		cancellation.cancel();
+
+		ExecutionException e = assertThrows(ExecutionException.class, () -> follower.get(2, TimeUnit.SECONDS));
+		assertInstanceOf(QueryCancelledException.class, e.getCause());
+		release.countDown();
+	}
+
+	@Test
+	void followerRunsQueryItselfWhenLeaderIsCancelled() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Future<List<Map<String, Object>>> leader = startLeader(release, () -> {
+			throw new QueryCancelledException("Query cancelled: the client disconnected.");
+		});
+
+		List<Map<String, Object>> rows = List.of(Map.of("A", 2));
+		Future<List<Map<String, Object>>> follower = executor.submit(() -> coalescer.execute(KEY, TIMEOUT, () -> rows));
+		Thread.sleep(200);
+		release.countDown();
+
+		assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+		assertSame(rows, follower.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void leaderFailureIsRethrownToFollower() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		startLeader(release, () -> {
+			throw new IllegalStateException("ORA-00942");
+		});
+
+		Future<List<Map<String, Object>>> follower = executor.submit(() -> coalescer.execute(KEY, TIMEOUT, List::of));
+		Thread.sleep(200);
+		release.countDown();
+
+		ExecutionException e = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(IllegalStateException.class, e.getCause());
+		assertEquals("ORA-00942", e.getCause().getMessage());
+	}
+
+	/** 먼저 실행하는 호출을 시작하고, 그 조회가 실행 중(병합 대상)이 될 때까지 기다립니다. */
+	private Future<List<Map<String, Object>>> startLeader(CountDownLatch release, Supplier<List<Map<String, Object>>> result) throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		Future<List<Map<String, Object>>> leader = executor.submit(() -> coalescer.execute(KEY, TIMEOUT, () -> {
+			started.countDown();
+			await(release);
+			return result.get();
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS), "leader did not start");
+		return leader;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.kydbm.monarch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 지표의 service/method 태그가 등록된 서비스 이름으로만 만들어지는지 확인합니다.
+ * 요청 파라미터의 이름이 태그로 쓰이면 임의의 이름마다 시계열이 새로 생깁니다.
+ */
+class QueryMetricsTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final QueryMetrics queryMetrics = new QueryMetrics(registry, new ObjectMapper());
+
+	@Test
+	void serializeTagsWithResolvedService() {
+		ServiceDefinition service = new ServiceDefinition(Map.of("EXEC_TYPE", "LIST", "QUERY_STMT", "SELECT 1 FROM DUAL"), 1L, "SVC", "LIST");
+
+		byte[] json = queryMetrics.serialize(service, List.of(Map.of("A", 1)));
+
+		assertEquals("[{\"A\":1}]", new String(json));
+		assertNotNull(registry.find("monarch.query.payload.bytes").tags("service", "SVC", "method", "LIST").summary());
+	}
+
+	@Test
+	void unresolvedServicesShareOneUnknownSeries() {
+		for (int i = 0; i < 50; i++) {
+			queryMetrics.serialize(null, List.of());
+		}
+
+		assertEquals(Set.of(QueryMetrics.UNKNOWN), tagValues("monarch.query.payload.bytes", "service"));
+		assertEquals(Set.of(QueryMetrics.UNKNOWN), tagValues("monarch.query.phase", "method"));
+	}
+
+	@Test
+	void recordWithoutResolvedServiceUsesUnknown() {
+		QueryTrace trace = QueryTrace.start();
+		trace.close();
+
+		queryMetrics.record(trace, 1L, false);
+
+		assertNotNull(registry.find("monarch.query.execution")
+				.tags("service", QueryMetrics.UNKNOWN, "method", QueryMetrics.UNKNOWN, "outcome", "error").timer());
+	}
+
+	private Set<String> tagValues(String name, String tag) {
+		return registry.find(name).meters().stream()
+				.map(Meter::getId)
+				.map(id -> id.getTag(tag))
+				.collect(Collectors.toSet());
+	}
+}
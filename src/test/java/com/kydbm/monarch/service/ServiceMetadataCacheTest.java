@@ -0,0 +1,142 @@
+package com.kydbm.monarch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kydbm.monarch.mapper.MServiceMapper;
+import com.kydbm.monarch.mapper.MStructureMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 내장 H2 DB와 실제 MyBatis 매퍼로 메타데이터 캐시의 적재, "없음" 캐시, UPD_DATE 폴링 무효화를 확인합니다.
+ */
+@MybatisTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ServiceMetadataCacheTest {
+
+	private static final Timestamp T0 = Timestamp.valueOf("2026-01-01 09:00:00");
+	private static final Timestamp T1 = Timestamp.valueOf("2026-01-01 09:05:00");
+
+	@Autowired
+	private MServiceMapper mServiceMapper;
+	@Autowired
+	private MStructureMapper mStructureMapper;
+	@Autowired
+	private DataSource dataSource;
+
+	private JdbcTemplate jdbc;
+
+	@BeforeEach
+	void createTables() {
+		jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("""
+				CREATE TABLE M_SERVICE (
+				    M_SERVICE_NO BIGINT, QUERY_NAME VARCHAR(100), SERVICE_NAME VARCHAR(100), METHOD_NAME VARCHAR(100),
+				    EXEC_TYPE VARCHAR(20), QUERY_STMT NCLOB, QUERY_DESC VARCHAR(500), TABLE_NAME VARCHAR(100),
+				    DS_NAME VARCHAR(50), KEYSET_KEY VARCHAR(200), PARAM_SCHEMA VARCHAR(4000), CACHE_TTL BIGINT,
+				    CACHE_MAX_BYTES BIGINT, QUERY_TIMEOUT INTEGER, USE_FLAG CHAR(1), M_USITE_NO BIGINT,
+				    REG_DATE TIMESTAMP, UPD_DATE TIMESTAMP, REG_USER BIGINT, UPD_USER BIGINT)
+				""");
+		jdbc.execute("""
+				CREATE TABLE M_STRUCTURE (
+				    STRUCTURE_NAME VARCHAR(100), STRUCTURE_CONT NCLOB, M_USITE_NO BIGINT, UPD_DATE TIMESTAMP)
+				""");
+	}
+
+	@AfterEach
+	void dropTables() {
+		jdbc.execute("DROP TABLE M_SERVICE");
+		jdbc.execute("DROP TABLE M_STRUCTURE");
+	}
+
+	@Test
+	void servesCachedDefinitionUntilUpdDateChanges() {
+		insertService("SVC", "LIST", "SELECT 1 FROM DUAL", T0);
+		ServiceMetadataCache cache = newCache(30_000);
+		cache.pollForChanges();
+
+		assertEquals("SELECT 1 FROM DUAL", cache.getService(1L, "SVC", "LIST").getQueryStmt());
+
+		// UPD_DATE가 그대로이면 DB가 바뀌어도 캐시된 값을 사용합니다.
+		jdbc.update("UPDATE M_SERVICE SET QUERY_STMT = 'SELECT 2 FROM DUAL'");
+		cache.pollForChanges();
+		assertEquals("SELECT 1 FROM DUAL", cache.getService(1L, "SVC", "LIST").getQueryStmt());
+
+		jdbc.update("UPDATE M_SERVICE SET QUERY_STMT = 'SELECT 3 FROM DUAL', UPD_DATE = ?", T1);
+		cache.pollForChanges();
+		assertEquals("SELECT 3 FROM DUAL", cache.getService(1L, "SVC", "LIST").getQueryStmt());
+	}
+
+	@Test
+	void missingServiceIsCachedUntilRowCountChanges() {
+		insertService("SVC", "LIST", "SELECT 1 FROM DUAL", T0);
+		ServiceMetadataCache cache = newCache(60_000);
+		cache.pollForChanges();
+
+		assertNull(cache.getService(1L, "NEW_SVC", "LIST"));
+
+		// "없음"이 캐시되어 있으므로 행을 추가해도 폴링 전까지는 DB를 다시 조회하지 않습니다.
+		insertService("NEW_SVC", "LIST", "SELECT 4 FROM DUAL", T0);
+		assertNull(cache.getService(1L, "NEW_SVC", "LIST"));
+
+		cache.pollForChanges();
+		assertEquals("SELECT 4 FROM DUAL", cache.getService(1L, "NEW_SVC", "LIST").getQueryStmt());
+	}
+
+	@Test
+	void missingServiceExpiresAfterMissTtl() throws InterruptedException {
+		ServiceMetadataCache cache = newCache(50);
+
+		assertNull(cache.getService(1L, "SVC", "LIST"));
+		insertService("SVC", "LIST", "SELECT 1 FROM DUAL", T0);
+		Thread.sleep(200);
+
+		assertNotNull(cache.getService(1L, "SVC", "LIST"));
+	}
+
+	@Test
+	void readsQueryStmtLongerThanVarcharLimit() {
+		String longStmt = "SELECT * FROM T WHERE 1=1" + " /* AND A = @A@ */".repeat(400);
+		insertService("BIG", "LIST", longStmt, T0);
+
+		assertEquals(longStmt, newCache(30_000).getService(1L, "BIG", "LIST").getQueryStmt());
+	}
+
+	@Test
+	void structureIsNormalizedOnLoadAndMissIsCached() {
+		jdbc.update("INSERT INTO M_STRUCTURE VALUES (?, ?, 1, ?)", "SCREEN", "{ service: 'SVC', // 주석\n method: 'LIST', }", T0);
+		ServiceMetadataCache cache = newCache(60_000);
+		cache.pollForChanges();
+
+		assertEquals("{\"service\":\"SVC\",\"method\":\"LIST\"}", cache.getStructure("SCREEN", 1L).getContent());
+		assertNull(cache.getStructure("OTHER", 1L));
+
+		jdbc.update("INSERT INTO M_STRUCTURE VALUES (?, ?, 1, ?)", "OTHER", "{}", T0);
+		assertNull(cache.getStructure("OTHER", 1L));
+		cache.pollForChanges();
+		assertEquals("{}", cache.getStructure("OTHER", 1L).getContent());
+	}
+
+	private ServiceMetadataCache newCache(long missTtlMs) {
+		return new ServiceMetadataCache(mServiceMapper, mStructureMapper, new ObjectMapper(), 100, 100, missTtlMs);
+	}
+
+	private void insertService(String serviceName, String methodName, String queryStmt, Timestamp updDate) {
+		jdbc.update("""
+				INSERT INTO M_SERVICE (M_SERVICE_NO, SERVICE_NAME, METHOD_NAME, EXEC_TYPE, QUERY_STMT, USE_FLAG, M_USITE_NO, REG_DATE, UPD_DATE)
+				VALUES ((SELECT COUNT(*) + 1 FROM M_SERVICE), ?, ?, 'LIST', ?, '1', 1, ?, ?)
+				""", serviceName, methodName, queryStmt, updDate, updDate);
+	}
+}
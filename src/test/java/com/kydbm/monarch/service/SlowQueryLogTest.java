@@ -0,0 +1,73 @@
+package com.kydbm.monarch.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 느린 쿼리 기록이 회원사별로만 조회되고, 바인딩 값 대신 타입만 보관하는지 확인합니다.
+ */
+class SlowQueryLogTest {
+
+	private final SlowQueryLog slowQueryLog = new SlowQueryLog(0, 20);
+
+	@Test
+	void snapshotReturnsOnlyRequestedTenant() {
+		record(1L, "ORDER", "LIST", Map.of("A", 1L));
+		record(2L, "ORDER", "LIST", Map.of("A", 2L));
+
+		List<SlowQueryLog.SlowQuery> tenant1 = slowQueryLog.snapshot(1L, null, null);
+
+		assertEquals(1, tenant1.size());
+		assertEquals(Long.valueOf(1), tenant1.get(0).mUsiteNo());
+		assertTrue(slowQueryLog.snapshot(null, null, null).isEmpty());
+		assertTrue(slowQueryLog.snapshot(3L, "ORDER", "LIST").isEmpty());
+	}
+
+	@Test
+	void snapshotFiltersByServiceAndMethod() {
+		record(1L, "ORDER", "LIST", Map.of());
+		record(1L, "ORDER", "READ", Map.of());
+		record(1L, "ITEM", "LIST", Map.of());
+
+		assertEquals(2, slowQueryLog.snapshot(1L, "order", null).size());
+		assertEquals(1, slowQueryLog.snapshot(1L, "ORDER", "read").size());
+		assertEquals(3, slowQueryLog.snapshot(1L, " ", "").size());
+	}
+
+	@Test
+	void bindValuesAreNotRetained() {
+		Map<String, Object> params = new HashMap<>();
+		params.put("USER_ID", "kim.minsu");
+		params.put("PASSWORD", "secret!");
+		params.put("AMOUNT", 15000L);
+		params.put("CODES", List.of("A", "B", "C"));
+		params.put("MEMO", null);
+		record(1L, "USER", "READ", params);
+
+		Map<String, Object> recorded = slowQueryLog.snapshot(1L, null, null).get(0).parameters();
+
+		assertEquals("String(9)", recorded.get("USER_ID"));
+		assertEquals("String(7)", recorded.get("PASSWORD"));
+		assertEquals("Long", recorded.get("AMOUNT"));
+		assertTrue(((String) recorded.get("CODES")).endsWith("(3)"), (String) recorded.get("CODES"));
+		assertEquals("null", recorded.get("MEMO"));
+		assertFalse(recorded.toString().contains("kim.minsu"));
+		assertFalse(recorded.toString().contains("secret!"));
+	}
+
+	private void record(Long mUsiteNo, String serviceName, String methodName, Map<String, Object> params) {
+		QueryTrace trace = QueryTrace.start();
+		QueryTrace.service(new ServiceDefinition(Map.of("EXEC_TYPE", "LIST", "QUERY_STMT", "SELECT 1 FROM DUAL"), mUsiteNo, serviceName, methodName));
+		QueryTrace.statement("SELECT 1 FROM DUAL", new MapSqlParameterSource(params));
+		trace.close();
+		slowQueryLog.record(trace, mUsiteNo, true);
+	}
+}
@@ -0,0 +1,146 @@
+package com.kydbm.monarch.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * SqlTemplate이 기존 정규식 방식(동적 블록 치환 후 @PARAM@ -> :PARAM 치환)과 같은 SQL을 만드는지 확인합니다.
+ */
+class SqlTemplateTest {
+
+	@Test
+	void blockIsIncludedWhenAnyPlaceholderIsPresent() {
+		String sql = "SELECT * FROM T WHERE 1=1 /* AND A = @A@ AND B = @B@ */";
+
+		SqlTemplate.Rendered rendered = SqlTemplate.compile(sql).render(Set.of("B"));
+
+		assertEquals("SELECT * FROM T WHERE 1=1  AND A = :A AND B = :B ", rendered.sql());
+		assertEquals(List.of("A", "B"), rendered.paramNames());
+		assertMatchesLegacy(sql, Set.of("B"));
+	}
+
+	@Test
+	void blockIsDroppedWhenNoPlaceholderIsPresent() {
+		String sql = "SELECT * FROM T WHERE 1=1 /* AND A = @A@ */ ORDER BY 1";
+
+		SqlTemplate.Rendered rendered = SqlTemplate.compile(sql).render(Set.of("OTHER"));
+
+		assertEquals("SELECT * FROM T WHERE 1=1  ORDER BY 1", rendered.sql());
+		assertEquals(List.of(), rendered.paramNames());
+		assertMatchesLegacy(sql, Set.of("OTHER"));
+	}
+
+	@Test
+	void plainCommentsArePreserved() {
+		String sql = "SELECT /*+ INDEX(T T_IDX) */ * FROM T /* note */ WHERE A = @A@";
+
+		SqlTemplate.Rendered rendered = SqlTemplate.compile(sql).render(Set.of());
+
+		assertEquals("SELECT /*+ INDEX(T T_IDX) */ * FROM T /* note */ WHERE A = :A", rendered.sql());
+		assertEquals(List.of("A"), rendered.paramNames());
+		assertMatchesLegacy(sql, Set.of());
+	}
+
+	@Test
+	void plainCommentBeforeBlockIsNotSwallowed() {
+		// 기존 정규식은 앞의 일반 주석부터 다음 동적 블록의 끝까지를 하나의 블록으로 보았습니다. (의도된 차이)
+		String sql = "SELECT /* note */ * FROM T WHERE 1=1 /* AND A = @A@ */";
+
+		assertEquals("SELECT /* note */ * FROM T WHERE 1=1 ", SqlTemplate.compile(sql).render(Set.of()).sql());
+		assertEquals("SELECT /* note */ * FROM T WHERE 1=1  AND A = :A ", SqlTemplate.compile(sql).render(Set.of("A")).sql());
+	}
+
+	@Test
+	void unclosedCommentIsKeptAsLiteral() {
+		String sql = "SELECT * FROM T WHERE A = @A@ /* unclosed AND B = @B@";
+
+		SqlTemplate.Rendered rendered = SqlTemplate.compile(sql).render(Set.of());
+
+		assertEquals("SELECT * FROM T WHERE A = :A /* unclosed AND B = :B", rendered.sql());
+		assertEquals(List.of("A", "B"), rendered.paramNames());
+		assertMatchesLegacy(sql, Set.of());
+	}
+
+	@Test
+	void atSignThatIsNotPlaceholderIsKept() {
+		String sql = "SELECT * FROM T WHERE EMAIL = 'admin@example.com' AND A = @A@ AND X = 'a@ b@'";
+
+		SqlTemplate.Rendered rendered = SqlTemplate.compile(sql).render(Set.of("A"));
+
+		assertEquals("SELECT * FROM T WHERE EMAIL = 'admin@example.com' AND A = :A AND X = 'a@ b@'", rendered.sql());
+		assertEquals(List.of("A"), rendered.paramNames());
+		assertMatchesLegacy(sql, Set.of("A"));
+	}
+
+	@Test
+	void repeatedPlaceholderIsBoundOnce() {
+		String sql = "SELECT * FROM T WHERE A = @A@ OR B = @A@ /* OR C = @A@ */";
+
+		SqlTemplate.Rendered rendered = SqlTemplate.compile(sql).render(Set.of("A"));
+
+		assertEquals("SELECT * FROM T WHERE A = :A OR B = :A  OR C = :A ", rendered.sql());
+		assertEquals(List.of("A"), rendered.paramNames());
+		assertEquals(Set.of("A"), SqlTemplate.compile(sql).getParamNames());
+		assertMatchesLegacy(sql, Set.of("A"));
+	}
+
+	@Test
+	void multipleBlocksOnOneLine() {
+		String sql = "SELECT * FROM T WHERE 1=1 /* AND A = @A@ */ /* AND B = @B@ */ /* AND C = @C@ */";
+
+		for (Set<String> present : List.of(Set.<String>of(), Set.of("A"), Set.of("B"), Set.of("A", "C"), Set.of("A", "B", "C"))) {
+			assertMatchesLegacy(sql, present);
+		}
+		assertEquals("SELECT * FROM T WHERE 1=1   AND B = :B  ", SqlTemplate.compile(sql).render(Set.of("B")).sql());
+	}
+
+	@Test
+	void multilineBlocks() {
+		String sql = """
+				SELECT *
+				FROM T
+				WHERE 1=1
+				/* AND NAME LIKE '%' || @NAME@ || '%'
+				   AND REG_DATE >= @FROM@ */
+				/* AND USE_FLAG = @USE_FLAG@ */
+				""";
+
+		for (Set<String> present : List.of(Set.<String>of(), Set.of("NAME"), Set.of("FROM", "USE_FLAG"))) {
+			assertMatchesLegacy(sql, present);
+		}
+	}
+
+	private static void assertMatchesLegacy(String sql, Set<String> present) {
+		assertEquals(legacyRender(sql, present), SqlTemplate.compile(sql).render(present).sql(), "present=" + present);
+	}
+
+	/** SqlTemplate 도입 전 DynamicQueryService의 정규식 렌더링 */
+	private static String legacyRender(String queryStmt, Set<String> present) {
+		Matcher matcher = Pattern.compile("/\\*([\\s\\S]*?@[a-zA-Z0-9_]+@[\\s\\S]*?)\\*/").matcher(queryStmt);
+		StringBuilder sb = new StringBuilder();
+		while (matcher.find()) {
+			String blockContent = matcher.group(1);
+			boolean paramExists = present.stream().anyMatch(key -> blockContent.contains("@" + key + "@"));
+			matcher.appendReplacement(sb, paramExists ? Matcher.quoteReplacement(blockContent) : "");
+		}
+		matcher.appendTail(sb);
+
+		Matcher placeholder = Pattern.compile("@[a-zA-Z0-9_]+@").matcher(sb.toString());
+		StringBuilder out = new StringBuilder();
+		Set<String> names = new LinkedHashSet<>();
+		while (placeholder.find()) {
+			String name = placeholder.group().substring(1, placeholder.group().length() - 1);
+			names.add(name);
+			placeholder.appendReplacement(out, ":" + name);
+		}
+		placeholder.appendTail(out);
+		return out.toString();
+	}
+}